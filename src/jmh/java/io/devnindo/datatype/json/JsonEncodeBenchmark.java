@@ -0,0 +1,54 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.json;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the String route of {@code encode().getBytes(UTF_8)} against the
+ * byte-native {@link Json#toByteData()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonEncodeBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int itemCount;
+
+    JsonObject payload;
+
+    @Setup
+    public void setup() {
+        payload = JsonPayloads.items(itemCount);
+    }
+
+    @Benchmark
+    public byte[] stringRoute() {
+        return payload.encode().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] byteRoute() {
+        return payload.toByteData();
+    }
+}
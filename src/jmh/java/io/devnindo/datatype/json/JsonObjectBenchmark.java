@@ -0,0 +1,72 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.json;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decode of UTF-8 bytes and String into a {@link JsonObject}, deep {@link JsonObject#copy()} and
+ * {@link JsonObject#equals(Object)} of two equal trees, at several payload sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonObjectBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int itemCount;
+
+    JsonObject payload;
+    JsonObject decoded;
+    JsonObject decodedAgain;
+    byte[] byteData;
+    String encoded;
+
+    @Setup
+    public void setup() {
+        payload = JsonPayloads.items(itemCount);
+        byteData = payload.toByteData();
+        encoded = payload.encode();
+        // two decodes, so the comparison neither shares values nor compares an Instant to its string
+        decoded = new JsonObject(byteData);
+        decodedAgain = new JsonObject(byteData);
+    }
+
+    @Benchmark
+    public JsonObject decodeBytes() {
+        return new JsonObject(byteData);
+    }
+
+    @Benchmark
+    public JsonObject decodeString() {
+        return new JsonObject(encoded);
+    }
+
+    @Benchmark
+    public JsonObject copy() {
+        return payload.copy();
+    }
+
+    @Benchmark
+    public boolean equalTrees() {
+        return decoded.equals(decodedAgain);
+    }
+}
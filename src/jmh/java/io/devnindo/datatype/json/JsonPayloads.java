@@ -0,0 +1,44 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.json;
+
+import java.time.Instant;
+
+/**
+ * Payloads of the json benchmarks, an object with an array of {@code itemCount} flat items.
+ */
+final class JsonPayloads {
+
+    private JsonPayloads() {
+    }
+
+    static JsonObject items(int itemCount) {
+        JsonArray items = new JsonArray();
+        for (int idx = 0; idx < itemCount; idx++) {
+            items.add(new JsonObject()
+                    .put("id", 100000L + idx)
+                    .put("name", "item-" + idx)
+                    .put("label", "আমার সোনার বাংলা")
+                    .put("price", idx * 1.25)
+                    .put("active", idx % 2 == 0)
+                    .put("created", Instant.ofEpochSecond(1_600_000_000L + idx)));
+        }
+        return new JsonObject()
+                .put("request_id", "c0ffee")
+                .put("count", itemCount)
+                .put("items", items);
+    }
+}
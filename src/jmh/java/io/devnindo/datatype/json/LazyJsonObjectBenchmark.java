@@ -0,0 +1,70 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.json;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A routing read: two top-level keys of a large envelope, then the envelope is forwarded as bytes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LazyJsonObjectBenchmark {
+
+    @Param({"10", "1000"})
+    int itemCount;
+
+    byte[] envelope;
+
+    @Setup
+    public void setup() {
+        JsonArray items = new JsonArray();
+        for (int idx = 0; idx < itemCount; idx++) {
+            items.add(new JsonObject()
+                    .put("id", 100000L + idx)
+                    .put("name", "item-" + idx)
+                    .put("created", Instant.ofEpochSecond(1_600_000_000L + idx)));
+        }
+        envelope = new JsonObject()
+                .put("route", "orders.created")
+                .put("tenant", 42)
+                .put("payload", new JsonObject().put("items", items))
+                .toByteData();
+    }
+
+    @Benchmark
+    public byte[] eager() {
+        JsonObject js = new JsonObject(envelope);
+        if (js.getString("route") == null || js.getInteger("tenant") == null)
+            throw new IllegalStateException();
+        return js.toByteData();
+    }
+
+    @Benchmark
+    public byte[] lazy() {
+        JsonObject js = JsonObject.lazy(envelope);
+        if (js.getString("route") == null || js.getInteger("tenant") == null)
+            throw new IllegalStateException();
+        return js.toByteData();
+    }
+}
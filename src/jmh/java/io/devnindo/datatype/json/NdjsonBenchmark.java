@@ -0,0 +1,99 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import io.devnindo.datatype.beanexample.AnEmployee;
+import io.devnindo.datatype.json.jackson.JacksonCodec;
+import io.devnindo.datatype.schema.BeanGenerator;
+import io.devnindo.datatype.schema.BeanSchema;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads 10k NDJSON lines of employees: {@link NdjsonReader} into trees and into beans, against splitting lines and
+ * decoding a {@link JsonObject} per line, and against a bare Jackson parser skipping every document.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NdjsonBenchmark {
+
+    byte[] ndjson;
+    BeanSchema<AnEmployee> schema;
+
+    @Setup
+    public void setup() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BeanGenerator.create(1).writeNdjson(AnEmployee.class, 10_000, out);
+        ndjson = out.toByteArray();
+        schema = BeanSchema.forClass(AnEmployee.class);
+    }
+
+    @Benchmark
+    public long readerTrees() {
+        long count = 0;
+        try (NdjsonReader reader = NdjsonReader.of(new ByteArrayInputStream(ndjson))) {
+            while (reader.next() != null)
+                count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long readerBeans() {
+        long count = 0;
+        try (NdjsonReader reader = NdjsonReader.of(new ByteArrayInputStream(ndjson))) {
+            while (reader.next(schema) != null)
+                count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long splitLines() throws IOException {
+        long count = 0;
+        try (BufferedReader lines = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(ndjson), StandardCharsets.UTF_8))) {
+            for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+                new JsonObject(line);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long jacksonSkip() throws IOException {
+        long count = 0;
+        try (JsonParser parser = JacksonCodec.createParser(new ByteArrayInputStream(ndjson))) {
+            while (parser.nextToken() != null) {
+                parser.skipChildren();
+                count++;
+            }
+        }
+        return count;
+    }
+}
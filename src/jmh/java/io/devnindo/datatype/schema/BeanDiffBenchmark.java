@@ -0,0 +1,60 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.schema;
+
+import io.devnindo.datatype.beanexample.AnEmployee;
+import io.devnindo.datatype.beanexample.DataSample;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DataBean#diffMerge(DataBean, DataBean)} of two equal employees and of two differing in a plain field,
+ * a list and a nested bean.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BeanDiffBenchmark {
+
+    AnEmployee employee;
+    AnEmployee sameEmployee;
+    AnEmployee changedEmployee;
+
+    @Setup
+    public void setup() {
+        employee = DataSample.employee().toBean(AnEmployee.class);
+        sameEmployee = DataSample.employee().toBean(AnEmployee.class);
+        changedEmployee = DataSample.employee()
+                .put("salary", 200)
+                .put("score_list", DataSample.employee().getJsonArray("score_list").add(5.0))
+                .put("manager", DataSample.person())
+                .toBean(AnEmployee.class);
+    }
+
+    @Benchmark
+    public DataDiff<AnEmployee> equalBeans() {
+        return DataBean.diffMerge(employee, sameEmployee);
+    }
+
+    @Benchmark
+    public DataDiff<AnEmployee> changedBeans() {
+        return DataBean.diffMerge(employee, changedEmployee);
+    }
+}
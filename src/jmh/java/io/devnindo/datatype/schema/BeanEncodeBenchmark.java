@@ -0,0 +1,68 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.schema;
+
+import io.devnindo.datatype.beanexample.APerson;
+import io.devnindo.datatype.beanexample.DataSample;
+import io.devnindo.datatype.json.Json;
+import io.devnindo.datatype.json.JsonArray;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares encoding beans through {@link BeanSchema#apply(DataBean)} trees against the field-by-field
+ * {@link BeanSchema#writeJson} route. Run with {@code -prof gc} to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BeanEncodeBenchmark {
+
+    @Param({"100", "10000"})
+    int beanCount;
+
+    List<APerson> beanList;
+
+    @Setup
+    public void setup() {
+        beanList = new ArrayList<>(beanCount);
+        for (int idx = 0; idx < beanCount; idx++) {
+            APerson person = DataSample.person()
+                    .put("id", 1000L + idx)
+                    .toBean(APerson.class);
+            beanList.add(person);
+        }
+    }
+
+    @Benchmark
+    public byte[] treeRoute() {
+        JsonArray array = new JsonArray();
+        for (APerson person : beanList)
+            array.add(person.toJson());
+        return array.toByteData();
+    }
+
+    @Benchmark
+    public byte[] streamRoute() {
+        return Json.CODEC.encodeToBytes(beanList, false);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.schema;
+
+import io.devnindo.datatype.beanexample.AnEmployee;
+import io.devnindo.datatype.beanexample.DataSample;
+import io.devnindo.datatype.util.Either;
+import io.devnindo.datatype.validation.Violation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the JSON round trip of a bean against {@link BeanSchema#toPacked}/{@link BeanSchema#fromPacked}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BeanPackedBenchmark {
+
+    BeanSchema<AnEmployee> schema;
+    AnEmployee employee;
+    byte[] jsonData;
+    byte[] packedData;
+
+    @Setup
+    public void setup() {
+        schema = BeanSchema.forClass(AnEmployee.class);
+        employee = DataSample.employee().toBean(AnEmployee.class);
+        jsonData = employee.toByteData();
+        packedData = schema.toPacked(employee);
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() {
+        return employee.toByteData();
+    }
+
+    @Benchmark
+    public byte[] packedEncode() {
+        return schema.toPacked(employee);
+    }
+
+    @Benchmark
+    public Either<Violation, AnEmployee> jsonDecode() {
+        return schema.fromByteData(jsonData);
+    }
+
+    @Benchmark
+    public Either<Violation, AnEmployee> packedDecode() {
+        return schema.fromPacked(packedData);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.schema;
+
+import io.devnindo.datatype.beanexample.APerson;
+import io.devnindo.datatype.beanexample.AnEmployee;
+import io.devnindo.datatype.beanexample.DataSample;
+import io.devnindo.datatype.json.JsonObject;
+import io.devnindo.datatype.util.Either;
+import io.devnindo.datatype.validation.Violation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BeanSchema#apply(JsonObject)} and {@link BeanSchema#apply(DataBean)} on the sample beans, a person with an
+ * address list and an employee adding a bean field and primitive lists.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BeanSchemaBenchmark {
+
+    BeanSchema<APerson> personSchema;
+    BeanSchema<AnEmployee> employeeSchema;
+    JsonObject personJS;
+    JsonObject employeeJS;
+    APerson person;
+    AnEmployee employee;
+
+    @Setup
+    public void setup() {
+        personSchema = BeanSchema.forClass(APerson.class);
+        employeeSchema = BeanSchema.forClass(AnEmployee.class);
+        personJS = DataSample.person().put("address_list", DataSample.addressArr());
+        employeeJS = DataSample.employee().put("manager", DataSample.person());
+        person = personJS.toBean(APerson.class);
+        employee = employeeJS.toBean(AnEmployee.class);
+    }
+
+    @Benchmark
+    public Either<Violation, APerson> personFromJson() {
+        return personSchema.apply(personJS);
+    }
+
+    @Benchmark
+    public JsonObject personToJson() {
+        return personSchema.apply(person);
+    }
+
+    @Benchmark
+    public Either<Violation, AnEmployee> employeeFromJson() {
+        return employeeSchema.apply(employeeJS);
+    }
+
+    @Benchmark
+    public JsonObject employeeToJson() {
+        return employeeSchema.apply(employee);
+    }
+}
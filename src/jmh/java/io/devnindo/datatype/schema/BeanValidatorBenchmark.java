@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.schema;
+
+import io.devnindo.datatype.beanexample.$APerson;
+import io.devnindo.datatype.beanexample.APerson;
+import io.devnindo.datatype.beanexample.DataSample;
+import io.devnindo.datatype.beanexample.Gender;
+import io.devnindo.datatype.util.Either;
+import io.devnindo.datatype.validation.Violation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.devnindo.datatype.validation.validators.ValueRules.equal;
+import static io.devnindo.datatype.validation.validators.ValueRules.gtThan;
+
+/**
+ * {@link BeanValidator#apply(DataBean)} of a bean passing every constraint and of one failing every constraint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BeanValidatorBenchmark {
+
+    BeanValidator<APerson> pensionEligibility;
+    APerson eligible;
+    APerson ineligible;
+
+    @Setup
+    public void setup() {
+        pensionEligibility = BeanValidator.create("FEMALE_PENSION_ELIGIBLE", APerson.class, $ -> {
+            $.required($APerson.AGE).and(gtThan(50));
+            $.required($APerson.GENDER).and(equal(Gender.female));
+        });
+        eligible = DataSample.person().put("age", 61).toBean(APerson.class);
+        ineligible = DataSample.person().put("gender", "male").toBean(APerson.class);
+    }
+
+    @Benchmark
+    public Either<Violation, APerson> valid() {
+        return pensionEligibility.apply(eligible);
+    }
+
+    @Benchmark
+    public Either<Violation, APerson> invalid() {
+        return pensionEligibility.apply(ineligible);
+    }
+}
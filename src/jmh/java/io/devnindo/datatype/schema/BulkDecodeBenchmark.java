@@ -0,0 +1,75 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.schema;
+
+import io.devnindo.datatype.beanexample.AnEmployee;
+import io.devnindo.datatype.beanexample.DataSample;
+import io.devnindo.datatype.json.JsonArray;
+import io.devnindo.datatype.schema.typeresolver.TypeResolver;
+import io.devnindo.datatype.schema.typeresolver.TypeResolverFactory;
+import io.devnindo.datatype.util.Either;
+import io.devnindo.datatype.validation.Violation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decode of a 50k object batch by {@link BulkDecoder} across pools of growing parallelism, against the
+ * sequential decode of the bean list resolver.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkDecodeBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    int parallelism;
+
+    JsonArray batch;
+    ForkJoinPool pool;
+    BulkDecoder<AnEmployee> decoder;
+    TypeResolver<List<AnEmployee>> listResolver;
+
+    @Setup
+    public void setup() {
+        batch = new JsonArray();
+        for (int idx = 0; idx < 50_000; idx++)
+            batch.add(DataSample.employee().put("age", idx));
+        pool = new ForkJoinPool(parallelism);
+        decoder = new BulkDecoder<>(AnEmployee.class, pool, BulkDecoder.DEFAULT_CHUNK_SIZE);
+        listResolver = TypeResolverFactory.beanList(AnEmployee.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public Either<Violation, List<AnEmployee>> bulkDecode() {
+        return decoder.decode(batch);
+    }
+
+    @Benchmark
+    public Either<Violation, List<AnEmployee>> sequentialDecode() {
+        return listResolver.evalJsonVal(batch);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.schema;
+
+import io.devnindo.datatype.beanexample.AnEmployee;
+import io.devnindo.datatype.beanexample.DataSample;
+import io.devnindo.datatype.json.Json;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode of a 200k bean list by {@link BulkEncoder} across pools of growing parallelism, against the sequential
+ * encode of {@link Json#CODEC}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkEncodeBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    int parallelism;
+
+    List<AnEmployee> employeeList;
+    ForkJoinPool pool;
+    BulkEncoder<AnEmployee> encoder;
+
+    @Setup
+    public void setup() {
+        employeeList = new ArrayList<>();
+        for (int idx = 0; idx < 200_000; idx++)
+            employeeList.add(DataSample.employee().put("age", idx).toBean(AnEmployee.class));
+        pool = new ForkJoinPool(parallelism);
+        encoder = new BulkEncoder<>(pool, BulkEncoder.DEFAULT_CHUNK_SIZE);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public byte[] bulkEncode() {
+        return encoder.encode(employeeList);
+    }
+
+    @Benchmark
+    public byte[] sequentialEncode() {
+        return Json.CODEC.encodeToBytes(employeeList, false);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.schema;
+
+import io.devnindo.datatype.beanexample.APerson;
+import io.devnindo.datatype.json.JsonObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to the first {@link DataBean#toJson()} of a fresh JVM, which pays for finding and loading the schemas.
+ * Every fork measures one call, compare the lazy per class lookup against loading every schema up front,
+ * from the schema index or from the classpath scan fallback.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class SchemaStartupBenchmark {
+
+    @Benchmark
+    public JsonObject lazyFirstToJson() {
+        return new APerson().setAge(30).toJson();
+    }
+
+    @Benchmark
+    public JsonObject indexedFirstToJson() {
+        BeanSchema.preloadAll();
+        return new APerson().setAge(30).toJson();
+    }
+
+    @Benchmark
+    @Fork(value = 10, jvmArgsAppend = "-D" + SchemaIndex.INDEX_PROPERTY + "=false")
+    public JsonObject scannedFirstToJson() {
+        BeanSchema.preloadAll();
+        return new APerson().setAge(30).toJson();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.json;
+
+import io.devnindo.datatype.schema.BeanSchema;
+import io.devnindo.datatype.schema.DataBean;
+import io.devnindo.datatype.util.Either;
+import io.devnindo.datatype.validation.Violation;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Map;
+
+/**
+ * Byte level encoding engine over the {@link JsonObject}/{@link JsonArray} model, a binary format such as the one
+ * behind {@link JsonCodecs#binary()} implements only this. Engines with a text form implement {@link JsonCodec}.
+ * <p>
+ * Encoders accept {@link JsonObject}, {@link JsonArray}, {@link DataBean}, maps, lists and plain JSON values.
+ * Decoders take the target class: {@code Map.class} and {@code List.class} give the backing storage of a
+ * {@link JsonObject} or {@link JsonArray}, {@code Object.class} gives any value with objects and arrays wrapped.
+ * Nested objects and arrays are always {@link JsonObject} and {@link JsonArray}.
+ */
+public interface ByteCodec {
+
+    public default <T> T fromByteData(byte[] byteData, Class<T> clazz) throws DecodeException {
+        return fromByteData(byteData, 0, byteData.length, clazz);
+    }
+
+    /**
+     * decode a slice of a larger buffer
+     */
+    public <T> T fromByteData(byte[] byteData, int offset, int len, Class<T> clazz) throws DecodeException;
+
+    /**
+     * decode the remaining bytes of a heap or direct buffer, the position of {@code buf} is not changed
+     */
+    public default <T> T fromByteBuffer(ByteBuffer buf, Class<T> clazz) throws DecodeException {
+        if (buf.hasArray()) {
+            return fromByteData(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining(), clazz);
+        }
+        byte[] byteData = new byte[buf.remaining()];
+        buf.duplicate().get(byteData);
+        return fromByteData(byteData, clazz);
+    }
+
+    /**
+     * decode a single document from {@code in}, the stream is read to its end but not closed
+     */
+    public <T> T fromStream(InputStream in, Class<T> clazz) throws DecodeException;
+
+    /**
+     * Decode an object straight into a bean of {@code schema}. The default goes through a {@link JsonObject} and
+     * {@link BeanSchema#apply(JsonObject)}, engines that stream may skip the tree.
+     */
+    public default <D extends DataBean> Either<Violation, D> decodeBean(BeanSchema<D> schema, byte[] byteData, int offset, int len)
+            throws DecodeException {
+        Map<String, Object> map = fromByteData(byteData, offset, len, Map.class);
+        if (map == null) {
+            throw new DecodeException("Invalid JSON object");
+        }
+        return schema.apply(new JsonObject(map));
+    }
+
+    public byte[] encodeToBytes(Object object, boolean pretty) throws EncodeException;
+
+    /**
+     * encode to {@code out}, the stream is flushed but not closed
+     */
+    public void encodeTo(Object object, OutputStream out, boolean pretty) throws EncodeException;
+
+    /**
+     * encode to a blocking channel, the channel is not closed
+     */
+    public default void encodeTo(Object object, WritableByteChannel channel, boolean pretty) throws EncodeException {
+        encodeTo(object, Channels.newOutputStream(channel), pretty);
+    }
+
+    /**
+     * encode into a heap or direct buffer from its position, the position is advanced past the written bytes
+     *
+     * @throws java.nio.BufferOverflowException if the encoding does not fit, the position is left unchanged then
+     */
+    public default void encodeTo(Object object, ByteBuffer buf, boolean pretty) throws EncodeException {
+        buf.put(encodeToBytes(object, pretty));
+    }
+}
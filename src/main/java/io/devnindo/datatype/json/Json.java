@@ -15,16 +15,62 @@
  */
 package io.devnindo.datatype.json;
 
-import io.devnindo.datatype.json.jackson.JacksonCodec;
-
-import java.nio.charset.StandardCharsets;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 
 public interface Json {
 
-    JacksonCodec CODEC = new JacksonCodec();
+    /**
+     * the codec all encoding and decoding goes through, see {@link JsonCodecs#load()} for how it is chosen
+     */
+    JsonCodec CODEC = JsonCodecs.load();
 
+    /**
+     * Encode this JSON object as UTF-8 bytes, without going through a String.
+     *
+     * @return the UTF-8 byte encoding.
+     */
     public default byte[] toByteData() {
-        return encode().getBytes(StandardCharsets.UTF_8);
+        return Json.CODEC.encodeToBytes(this, false);
+    }
+
+    /**
+     * Encode this JSON object as UTF-8 into a heap buffer.
+     *
+     * @return a buffer positioned at zero holding the UTF-8 encoding.
+     */
+    public default ByteBuffer toByteBuffer() {
+        return ByteBuffer.wrap(toByteData());
+    }
+
+    /**
+     * Encode this JSON object as UTF-8 into {@code buf}, heap or direct, from its current position.
+     * The position is advanced past the written bytes.
+     *
+     * @param buf the buffer to write into
+     * @throws java.nio.BufferOverflowException if the encoding does not fit, the position is left unchanged then
+     */
+    public default void writeTo(ByteBuffer buf) {
+        Json.CODEC.encodeTo(this, buf, false);
+    }
+
+    /**
+     * Encode this JSON object as UTF-8 into {@code out}, the stream is flushed but not closed.
+     *
+     * @param out the stream to write into
+     */
+    public default void writeTo(OutputStream out) {
+        Json.CODEC.encodeTo(this, out, false);
+    }
+
+    /**
+     * Encode this JSON object as UTF-8 into a blocking {@code channel}, the channel is not closed.
+     *
+     * @param channel the channel to write into
+     */
+    public default void writeTo(WritableByteChannel channel) {
+        Json.CODEC.encodeTo(this, channel, false);
     }
 
     /**
@@ -37,6 +83,31 @@ public interface Json {
     }
 
 
+    /**
+     * Encode this JSON object in the binary format of {@link JsonCodecs#binary()}, {@code byte[]} values are kept as
+     * raw bytes and {@link java.time.Instant} values keep their type.
+     *
+     * @return the binary encoding.
+     */
+    public default byte[] toBinary() {
+        return JsonCodecs.binary().encodeToBytes(this, false);
+    }
+
+    /**
+     * Decode the output of {@link #toBinary()}.
+     *
+     * @param byteData the binary encoding
+     * @return a {@link JsonObject} or a {@link JsonArray}
+     * @throws DecodeException if {@code byteData} does not hold an object or an array
+     */
+    public static Json fromBinary(byte[] byteData) throws DecodeException {
+        Object json = JsonCodecs.binary().fromByteData(byteData, Object.class);
+        if (json instanceof Json == false) {
+            throw new DecodeException("Invalid binary JSON object or array");
+        }
+        return (Json) json;
+    }
+
     public Json copy();
 
     /**
@@ -25,7 +25,7 @@
 package io.devnindo.datatype.json;
 
 
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.*;
 import java.util.function.Function;
@@ -76,7 +76,23 @@ public class JsonArray implements Json, Iterable<Object> {
     }
 
     /**
-     * Create an instance from a Buffer of JSON.
+     * Create an instance from the remaining bytes of a heap or direct buffer of UTF-8 JSON.
+     * The position of the buffer is not changed.
+     *
+     * @param buf the buffer of JSON.
+     */
+    public JsonArray(ByteBuffer buf) {
+        if (buf == null) {
+            throw new NullPointerException();
+        }
+        list = Json.CODEC.fromByteBuffer(buf, List.class);
+        if (list == null) {
+            throw new DecodeException("Invalid JSON array");
+        }
+    }
+
+    /**
+     * Create an instance from a Buffer of UTF-8 JSON.
      *
      * @param byteData the byte buffer of JSON.
      */
@@ -84,7 +100,27 @@ public class JsonArray implements Json, Iterable<Object> {
         if (byteData == null) {
             throw new NullPointerException();
         }
-        fromJson(new String(byteData, StandardCharsets.UTF_8));
+        fromByteData(byteData, 0, byteData.length);
+        if (list == null) {
+            throw new DecodeException("Invalid JSON array");
+        }
+    }
+
+    /**
+     * Create an instance from a slice of a Buffer of UTF-8 JSON, the slice is not copied.
+     *
+     * @param byteData the byte buffer holding the JSON
+     * @param offset   start of the JSON in the buffer
+     * @param len      number of bytes of the JSON
+     */
+    public JsonArray(byte[] byteData, int offset, int len) {
+        if (byteData == null) {
+            throw new NullPointerException();
+        }
+        fromByteData(byteData, offset, len);
+        if (list == null) {
+            throw new DecodeException("Invalid JSON array");
+        }
     }
 
     /**
@@ -610,6 +646,10 @@ public class JsonArray implements Json, Iterable<Object> {
         list = Json.CODEC.fromString(json, List.class);
     }
 
+    private void fromByteData(byte[] byteData, int offset, int len) {
+        list = Json.CODEC.fromByteData(byteData, offset, len, List.class);
+    }
+
     private static class Iter implements Iterator<Object> {
 
         final Iterator<Object> listIter;
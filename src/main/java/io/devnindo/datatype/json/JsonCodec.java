@@ -0,0 +1,27 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.json;
+
+/**
+ * Encoding engine behind {@link Json#CODEC}, chosen once by {@link JsonCodecs#load()}: a {@link ByteCodec} with a
+ * text form, the UTF-8 bytes of which are what the byte methods read and write.
+ */
+public interface JsonCodec extends ByteCodec {
+
+    public <T> T fromString(String json, Class<T> clazz) throws DecodeException;
+
+    public String encodeToString(Object object, boolean pretty) throws EncodeException;
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.json;
+
+import io.devnindo.datatype.json.jackson.CborCodec;
+import io.devnindo.datatype.json.jackson.JacksonCodec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Resolves the {@link JsonCodec} behind {@link Json#CODEC}:
+ * <ol>
+ *     <li>the class named by the system property {@value #CODEC_PROPERTY}, if set</li>
+ *     <li>otherwise the first {@code META-INF/services/io.devnindo.datatype.json.JsonCodec} provider other than
+ *     {@link JacksonCodec}</li>
+ *     <li>otherwise {@link JacksonCodec}</li>
+ * </ol>
+ * Only a {@link JsonCodec}, which has a text form, qualifies; a class named by the property that is merely a
+ * {@link ByteCodec}, such as {@link CborCodec}, is rejected.
+ */
+public final class JsonCodecs {
+    public static final String CODEC_PROPERTY = "io.devnindo.datatype.json.codec";
+
+    private JsonCodecs() {
+    }
+
+    public static JsonCodec load() {
+        String codecName = System.getProperty(CODEC_PROPERTY);
+        List<JsonCodec> providerList = providers();
+
+        if (codecName != null && !codecName.isBlank()) {
+            for (JsonCodec codec : providerList) {
+                if (codec.getClass().getName().equals(codecName))
+                    return codec;
+            }
+            return instantiate(codecName.trim());
+        }
+
+        JsonCodec selected = null;
+        for (JsonCodec codec : providerList) {
+            if (codec instanceof JacksonCodec)
+                continue;
+            if (selected == null) {
+                selected = codec;
+            } else {
+                Logger.getLogger(JsonCodecs.class.getName()).log(Level.WARNING,
+                        "Several JsonCodec providers, using {0} and ignoring {1}; set -D{2} to choose",
+                        new Object[]{selected.getClass().getName(), codec.getClass().getName(), CODEC_PROPERTY});
+            }
+        }
+        return selected != null ? selected : new JacksonCodec();
+    }
+
+    /**
+     * the binary (CBOR) codec behind {@link Json#toBinary()} and {@link Json#fromBinary(byte[])}, independent of
+     * {@link Json#CODEC}
+     */
+    public static ByteCodec binary() {
+        return BinaryHolder.CODEC;
+    }
+
+    private static final class BinaryHolder {
+        private static final ByteCodec CODEC = new CborCodec();
+    }
+
+    private static List<JsonCodec> providers() {
+        List<JsonCodec> providerList = new ArrayList<>();
+        try {
+            ServiceLoader.load(JsonCodec.class, JsonCodec.class.getClassLoader()).forEach(providerList::add);
+        } catch (ServiceConfigurationError error) {
+            Logger.getLogger(JsonCodecs.class.getName()).log(Level.SEVERE, "Broken JsonCodec provider", error);
+        }
+        return providerList;
+    }
+
+    private static JsonCodec instantiate(String codecName) {
+        try {
+            Class<?> codecClz = Class.forName(codecName, true, JsonCodec.class.getClassLoader());
+            if (JsonCodec.class.isAssignableFrom(codecClz) == false)
+                throw new IllegalStateException("Not a JsonCodec with a text form: " + codecName + " set by " + CODEC_PROPERTY);
+            return (JsonCodec) codecClz.getConstructor().newInstance();
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Cannot create JsonCodec " + codecName + " set by " + CODEC_PROPERTY, ex);
+        }
+    }
+}
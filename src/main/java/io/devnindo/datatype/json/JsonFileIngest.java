@@ -0,0 +1,195 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.devnindo.datatype.json.jackson.JacksonCodec;
+import io.devnindo.datatype.schema.BeanSchema;
+import io.devnindo.datatype.schema.DataBean;
+import io.devnindo.datatype.util.Either;
+import io.devnindo.datatype.validation.Violation;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Ingests a large file of JSON objects, either a top level array of objects or newline delimited JSON, told apart
+ * by the first token. The file is mapped in segments of {@code segmentSize} bytes that feed a single parser, the
+ * objects are decoded one at a time as {@link JsonObject} or straight into beans, so the heap in use does not grow
+ * with the file.
+ * <p>
+ * Newline delimited files are read as by {@link NdjsonReader}. In an array, an item that is not an object fails
+ * with a {@link DecodeException}, as does malformed JSON. An object not valid for the schema is a left
+ * {@link Either} and ingest goes on.
+ */
+public final class JsonFileIngest implements Closeable {
+    public static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+
+    private final MappedSegmentStream in;
+    // one of the two, by the format of the file
+    private final JsonParser arrayParser;
+    private final NdjsonReader ndjsonReader;
+    private boolean arrayEnded;
+    private long docCount;
+
+    private JsonFileIngest(MappedSegmentStream in$) throws IOException {
+        in = in$;
+        if (in$.peekToken() == '[') {
+            arrayParser = JacksonCodec.createParser(in$);
+            arrayParser.nextToken();
+            ndjsonReader = null;
+        } else {
+            arrayParser = null;
+            ndjsonReader = NdjsonReader.of(in$);
+        }
+    }
+
+    public static JsonFileIngest open(Path file$) throws IOException {
+        return open(file$, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * @param segmentSize$ bytes mapped at a time
+     */
+    public static JsonFileIngest open(Path file$, int segmentSize$) throws IOException {
+        if (segmentSize$ < 1)
+            throw new IllegalArgumentException("segment size must be positive: " + segmentSize$);
+        FileChannel channel = FileChannel.open(file$, StandardOpenOption.READ);
+        try {
+            return new JsonFileIngest(new MappedSegmentStream(channel, segmentSize$));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * true for a file holding a top level array, false for newline delimited JSON
+     */
+    public boolean isArray() {
+        return arrayParser != null;
+    }
+
+    /**
+     * the next object, null at the end of the file
+     */
+    public JsonObject next() throws DecodeException {
+        if (ndjsonReader != null)
+            return ndjsonReader.next();
+        try {
+            if (nextItem() == false)
+                return null;
+            return (JsonObject) JacksonCodec.readValue(arrayParser);
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    /**
+     * the next object decoded by {@code schema$}, null at the end of the file
+     */
+    public <D extends DataBean> Either<Violation, D> next(BeanSchema<D> schema$) throws DecodeException {
+        if (ndjsonReader != null)
+            return ndjsonReader.next(schema$);
+        try {
+            if (nextItem() == false)
+                return null;
+            return schema$.readJson(arrayParser);
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    /**
+     * objects read so far
+     */
+    public long count() {
+        return ndjsonReader != null ? ndjsonReader.count() : docCount;
+    }
+
+    /**
+     * the remaining objects, lazily read as the stream is consumed. Closing the stream closes the ingest.
+     */
+    public Stream<JsonObject> stream() {
+        return stream(this::next);
+    }
+
+    public <D extends DataBean> Stream<Either<Violation, D>> stream(BeanSchema<D> schema$) {
+        return stream(() -> next(schema$));
+    }
+
+    private <T> Stream<T> stream(Supplier<T> next) {
+        Spliterator<T> split = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                T doc = next.get();
+                if (doc == null)
+                    return false;
+                action.accept(doc);
+                return true;
+            }
+        };
+        return StreamSupport.stream(split, false).onClose(this::close);
+    }
+
+    // moves to the START_OBJECT of the next array item
+    private boolean nextItem() throws IOException {
+        if (arrayEnded)
+            return false;
+        JsonToken token = arrayParser.nextToken();
+        if (token == JsonToken.END_ARRAY) {
+            arrayEnded = true;
+            if (arrayParser.nextToken() != null)
+                throw new DecodeException("Unexpected content after the array at line "
+                        + arrayParser.getTokenLocation().getLineNr());
+            return false;
+        }
+        if (token == null)
+            throw new DecodeException("Unexpected end of file inside the array, after item " + docCount);
+        if (token != JsonToken.START_OBJECT)
+            throw new DecodeException("Item " + docCount + " of the array is not a JSON object");
+        docCount++;
+        return true;
+    }
+
+    private DecodeException failure(IOException e) {
+        return new DecodeException("Failed to read item " + docCount + ": " + e.getMessage(), e);
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (arrayParser != null)
+                arrayParser.close();
+            else
+                ndjsonReader.close();
+            in.close();
+        } catch (IOException e) {
+            throw new DecodeException(e.getMessage(), e);
+        }
+    }
+}
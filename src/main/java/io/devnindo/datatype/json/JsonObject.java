@@ -27,12 +27,14 @@ package io.devnindo.datatype.json;
 import io.devnindo.datatype.schema.BeanSchema;
 import io.devnindo.datatype.schema.DataBean;
 import io.devnindo.datatype.schema.SchemaField;
+import io.devnindo.datatype.util.CompactMap;
 import io.devnindo.datatype.util.Either;
 import io.devnindo.datatype.util.JsonUtil;
 import io.devnindo.datatype.validation.Violation;
+import io.devnindo.datatype.validation.ViolationSink;
 
 
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.*;
 import java.util.function.Function;
@@ -70,7 +72,7 @@ public class JsonObject implements
      * Create a new, empty instance
      */
     public JsonObject() {
-        map = new LinkedHashMap<>();
+        map = new CompactMap<>();
     }
 
     /**
@@ -86,22 +88,23 @@ public class JsonObject implements
     }
 
     /**
-     * Create an instance from a buffer.
+     * Create an instance from the remaining bytes of a heap or direct buffer of UTF-8 JSON.
+     * The position of the buffer is not changed.
      *
      * @param buf the buffer to create the instance from.
      */
-  /*public JsonObject(Buffer buf) {
-    if (buf == null) {
-      throw new NullPointerException();
-    }
-    fromBuffer(buf);
-    if (map == null) {
-      throw new DecodeException("Invalid JSON object: " + buf);
+    public JsonObject(ByteBuffer buf) {
+        if (buf == null) {
+            throw new NullPointerException();
+        }
+        map = Json.CODEC.fromByteBuffer(buf, Map.class);
+        if (map == null) {
+            throw new DecodeException("Invalid JSON object");
+        }
     }
-  }*/
 
     /**
-     * Create an instance from a buffer.
+     * Create an instance from a buffer of UTF-8 JSON.
      *
      * @param byteData the buffer to create the instance from.
      */
@@ -109,7 +112,59 @@ public class JsonObject implements
         if (byteData == null) {
             throw new NullPointerException();
         }
-        fromString(new String(byteData, StandardCharsets.UTF_8));
+        fromByteData(byteData, 0, byteData.length);
+        if (map == null) {
+            throw new DecodeException("Invalid JSON object");
+        }
+    }
+
+    /**
+     * Create an instance from a slice of a buffer of UTF-8 JSON, the slice is not copied.
+     *
+     * @param byteData the buffer holding the JSON
+     * @param offset   start of the JSON in the buffer
+     * @param len      number of bytes of the JSON
+     */
+    public JsonObject(byte[] byteData, int offset, int len) {
+        if (byteData == null) {
+            throw new NullPointerException();
+        }
+        fromByteData(byteData, offset, len);
+        if (map == null) {
+            throw new DecodeException("Invalid JSON object");
+        }
+    }
+
+    /**
+     * Create a lazy instance over a buffer of UTF-8 JSON, the buffer is neither copied nor parsed up front.
+     * A single scan records where the top-level values are, each value is decoded on its first access.
+     * <p>
+     * While the instance is not modified {@link #toByteData()} returns the original bytes as is, without re-encoding.
+     * The buffer must not change while the instance is in use.
+     *
+     * @param byteData the buffer to create the instance from.
+     * @return the lazy instance
+     */
+    public static JsonObject lazy(byte[] byteData) {
+        if (byteData == null) {
+            throw new NullPointerException();
+        }
+        return new JsonObject(new LazyJsonMap(byteData, 0, byteData.length));
+    }
+
+    /**
+     * Create a lazy instance over a slice of a buffer of UTF-8 JSON, see {@link #lazy(byte[])}
+     *
+     * @param byteData the buffer holding the JSON
+     * @param offset   start of the JSON in the buffer
+     * @param len      number of bytes of the JSON
+     * @return the lazy instance
+     */
+    public static JsonObject lazy(byte[] byteData, int offset, int len) {
+        if (byteData == null) {
+            throw new NullPointerException();
+        }
+        return new JsonObject(new LazyJsonMap(byteData, offset, len));
     }
 
     /**
@@ -138,13 +193,13 @@ public class JsonObject implements
     }
 
     public <D extends DataBean> Either<Violation, D> toBeanEither(Class<D> beanType) {
-        BeanSchema<D> schema = BeanSchema.of(beanType.getName());
-        return schema.apply(this);
+        BeanSchema<D> schema = BeanSchema.forClass(beanType);
+        ViolationSink sink = new ViolationSink();
+        return sink.either(schema.apply(this, sink));
     }
 
     public <D extends DataBean> D toBean(Class<D> beanType) {
-        BeanSchema<D> schema = BeanSchema.of(beanType.getName());
-        return schema.apply(this).right();
+        return toBeanEither(beanType).right();
     }
 
     /**
@@ -770,10 +825,10 @@ public class JsonObject implements
      */
     public JsonObject copy(Function<Object, ?> cloner) {
         Map<String, Object> copiedMap;
-        if (map instanceof LinkedHashMap) {
-            copiedMap = new LinkedHashMap<>(map.size());
-        } else {
+        if (map instanceof HashMap && !(map instanceof LinkedHashMap)) {
             copiedMap = new HashMap<>(map.size());
+        } else {
+            copiedMap = new CompactMap<>(map.size());
         }
         for (Map.Entry<String, Object> entry : map.entrySet()) {
             Object val = JsonUtil.deepCopy(entry.getValue(), cloner);
@@ -848,6 +903,19 @@ public class JsonObject implements
         return map.isEmpty();
     }
 
+    /**
+     * Encode as UTF-8 bytes, an unmodified {@link #lazy(byte[])} instance returns its original bytes.
+     *
+     * @return the UTF-8 byte encoding.
+     */
+    @Override
+    public byte[] toByteData() {
+        if (map instanceof LazyJsonMap && ((LazyJsonMap) map).isPristine()) {
+            return ((LazyJsonMap) map).byteData();
+        }
+        return Json.super.toByteData();
+    }
+
     @Override
     public String toString() {
         return encode();
@@ -930,6 +998,10 @@ public class JsonObject implements
         map = Json.CODEC.fromString(json, Map.class);
     }
 
+    private void fromByteData(byte[] byteData, int offset, int len) {
+        map = Json.CODEC.fromByteData(byteData, offset, len, Map.class);
+    }
+
 
     private static class Iter implements Iterator<Map.Entry<String, Object>> {
 
@@ -0,0 +1,393 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.json;
+
+import io.devnindo.datatype.util.CompactMap;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Backing map of a lazy {@link JsonObject}. One structural pass over the bytes records where each top-level key and
+ * value sits, a value is decoded on its first access. Nested objects are lazy in turn.
+ * <p>
+ * The first mutation copies the entries into a {@link CompactMap}. Until then, and as long as no nested array was
+ * handed out, the original bytes stand for the object, see {@link #isPristine()}.
+ * <p>
+ * Input the scan does not understand (comments, unquoted names) is parsed eagerly instead, malformed content inside a
+ * value is reported when that value is read.
+ */
+final class LazyJsonMap extends AbstractMap<String, Object> {
+    private static final Object UNDECODED = new Object();
+    private static final int LINEAR_LOOKUP_MAX = 8;
+
+    private final byte[] byteData;
+    private final int offset;
+    private final int len;
+
+    private String[] keys;
+    private int[] valueStart;
+    private int[] valueEnd;
+    private Object[] values;
+    private int count;
+    // built once an object has more than LINEAR_LOOKUP_MAX keys
+    private Map<String, Integer> keyIndex;
+
+    private Map<String, Object> materialized;
+    private boolean modified;
+    private Set<Entry<String, Object>> entrySet;
+
+    LazyJsonMap(byte[] byteData$, int offset$, int len$) {
+        byteData = byteData$;
+        offset = offset$;
+        len = len$;
+        if (scan() == false) {
+            resetIndex();
+            materialized = Json.CODEC.fromByteData(byteData, offset, len, Map.class);
+            if (materialized == null)
+                throw new DecodeException("Invalid JSON object");
+            // eagerly parsed values carry no original bytes of their own
+            modified = true;
+        }
+    }
+
+    /**
+     * @return true when the original bytes still encode this object
+     */
+    boolean isPristine() {
+        if (modified)
+            return false;
+        for (int idx = 0; idx < count; idx++) {
+            Object val = values[idx];
+            Map<String, Object> nested = val instanceof JsonObject ? ((JsonObject) val).getMap() : null;
+            if (nested instanceof LazyJsonMap) {
+                // its changes go through the lazy map
+                if (((LazyJsonMap) nested).isPristine() == false)
+                    return false;
+            } else if (val instanceof JsonArray || val instanceof JsonObject) {
+                // handed out mutable, can't tell whether it was changed
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * the original bytes, not copied when they span the whole array
+     */
+    byte[] byteData() {
+        if (offset == 0 && len == byteData.length)
+            return byteData;
+        return Arrays.copyOfRange(byteData, offset, offset + len);
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (materialized != null)
+            return materialized.get(key);
+        int idx = indexOf(key);
+        return idx < 0 ? null : valueAt(idx);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (materialized != null)
+            return materialized.containsKey(key);
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return materialized != null ? materialized.size() : count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        return mutable().put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        return mutable().remove(key);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> map) {
+        mutable().putAll(map);
+    }
+
+    @Override
+    public void clear() {
+        mutable().clear();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (entrySet == null)
+            entrySet = new EntrySet();
+        return entrySet;
+    }
+
+    private Map<String, Object> mutable() {
+        modified = true;
+        return materialize();
+    }
+
+    private Map<String, Object> materialize() {
+        if (materialized == null) {
+            Map<String, Object> map = new CompactMap<>(count);
+            for (int idx = 0; idx < count; idx++)
+                map.put(keys[idx], valueAt(idx));
+            materialized = map;
+        }
+        return materialized;
+    }
+
+    private Object valueAt(int idx) {
+        Object val = values[idx];
+        if (val == UNDECODED) {
+            int start = valueStart[idx];
+            int valueLen = valueEnd[idx] - start;
+            // kept wrapped, so the accessors hand it out without wrapping again
+            if (byteData[start] == '{')
+                val = new JsonObject(new LazyJsonMap(byteData, start, valueLen));
+            else
+                val = Json.CODEC.fromByteData(byteData, start, valueLen, Object.class);
+            values[idx] = val;
+        }
+        return val;
+    }
+
+    private int indexOf(Object key) {
+        if (keyIndex != null) {
+            Integer idx = keyIndex.get(key);
+            return idx == null ? -1 : idx;
+        }
+        for (int idx = 0; idx < count; idx++) {
+            if (keys[idx].equals(key))
+                return idx;
+        }
+        return -1;
+    }
+
+    private void add(String key, int start, int end) {
+        int idx = indexOf(key);
+        if (idx >= 0) {
+            // a repeated key keeps its position and takes the last value, as LinkedHashMap does
+            valueStart[idx] = start;
+            valueEnd[idx] = end;
+            return;
+        }
+        if (count == keys.length) {
+            int capacity = count * 2;
+            keys = Arrays.copyOf(keys, capacity);
+            valueStart = Arrays.copyOf(valueStart, capacity);
+            valueEnd = Arrays.copyOf(valueEnd, capacity);
+        }
+        keys[count] = key;
+        valueStart[count] = start;
+        valueEnd[count] = end;
+        if (keyIndex != null) {
+            keyIndex.put(key, count);
+        } else if (count == LINEAR_LOOKUP_MAX) {
+            keyIndex = new HashMap<>();
+            for (int pos = 0; pos <= count; pos++)
+                keyIndex.put(keys[pos], pos);
+        }
+        count++;
+    }
+
+    private void resetIndex() {
+        keys = null;
+        valueStart = valueEnd = null;
+        values = null;
+        keyIndex = null;
+        count = 0;
+    }
+
+    /**
+     * @return false when the bytes are not a plain JSON object the scan understands
+     */
+    private boolean scan() {
+        keys = new String[LINEAR_LOOKUP_MAX];
+        valueStart = new int[LINEAR_LOOKUP_MAX];
+        valueEnd = new int[LINEAR_LOOKUP_MAX];
+
+        int end = offset + len;
+        int pos = skipWhitespace(offset, end);
+        if (pos >= end || byteData[pos] != '{')
+            return false;
+        pos = skipWhitespace(pos + 1, end);
+        if (pos < end && byteData[pos] == '}') {
+            pos++;
+        } else {
+            while (true) {
+                if (pos >= end || byteData[pos] != '"')
+                    return false;
+                int keyEnd = skipString(pos, end);
+                if (keyEnd < 0)
+                    return false;
+                String key = decodeKey(pos, keyEnd);
+                pos = skipWhitespace(keyEnd, end);
+                if (pos >= end || byteData[pos] != ':')
+                    return false;
+                int start = skipWhitespace(pos + 1, end);
+                int valEnd = skipValue(start, end);
+                if (valEnd < 0)
+                    return false;
+                add(key, start, valEnd);
+                pos = skipWhitespace(valEnd, end);
+                if (pos >= end)
+                    return false;
+                if (byteData[pos] == '}') {
+                    pos++;
+                    break;
+                }
+                if (byteData[pos] != ',')
+                    return false;
+                pos = skipWhitespace(pos + 1, end);
+            }
+        }
+        if (skipWhitespace(pos, end) != end)
+            return false;
+
+        values = new Object[count];
+        Arrays.fill(values, UNDECODED);
+        return true;
+    }
+
+    private String decodeKey(int start, int end) {
+        for (int idx = start + 1; idx < end - 1; idx++) {
+            if (byteData[idx] == '\\')
+                return Json.CODEC.fromByteData(byteData, start, end - start, String.class);
+        }
+        return new String(byteData, start + 1, end - start - 2, StandardCharsets.UTF_8);
+    }
+
+    private int skipWhitespace(int pos, int end) {
+        while (pos < end) {
+            byte b = byteData[pos];
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t')
+                break;
+            pos++;
+        }
+        return pos;
+    }
+
+    /**
+     * @return position after the closing quote of the string starting at {@code pos}, -1 when unterminated
+     */
+    private int skipString(int pos, int end) {
+        for (int idx = pos + 1; idx < end; idx++) {
+            byte b = byteData[idx];
+            if (b == '\\')
+                idx++;
+            else if (b == '"')
+                return idx + 1;
+        }
+        return -1;
+    }
+
+    /**
+     * @return position after the value starting at {@code pos}, -1 when the scan gives up
+     */
+    private int skipValue(int pos, int end) {
+        if (pos >= end)
+            return -1;
+        byte first = byteData[pos];
+        if (first == '"')
+            return skipString(pos, end);
+        if (first == '{' || first == '[') {
+            int depth = 0;
+            for (int idx = pos; idx < end; idx++) {
+                byte b = byteData[idx];
+                if (b == '"') {
+                    idx = skipString(idx, end);
+                    if (idx < 0)
+                        return -1;
+                    idx--;
+                } else if (b == '{' || b == '[') {
+                    depth++;
+                } else if (b == '}' || b == ']') {
+                    if (--depth == 0)
+                        return idx + 1;
+                } else if (b == '/' || b == '#') {
+                    return -1;
+                }
+            }
+            return -1;
+        }
+
+        int idx = pos;
+        while (idx < end) {
+            byte b = byteData[idx];
+            if (b == ',' || b == '}' || b == ']' || b == ' ' || b == '\n' || b == '\r' || b == '\t')
+                break;
+            if (b == '/' || b == '#')
+                return -1;
+            idx++;
+        }
+        return idx == pos ? -1 : idx;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+        @Override
+        public int size() {
+            return LazyJsonMap.this.size();
+        }
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            Iterator<Entry<String, Object>> iter = materialize().entrySet().iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return iter.hasNext();
+                }
+
+                @Override
+                public Entry<String, Object> next() {
+                    Entry<String, Object> entry = iter.next();
+                    return new SimpleEntry<>(entry) {
+                        @Override
+                        public Object setValue(Object value) {
+                            modified = true;
+                            entry.setValue(value);
+                            return super.setValue(value);
+                        }
+                    };
+                }
+
+                @Override
+                public void remove() {
+                    modified = true;
+                    iter.remove();
+                }
+            };
+        }
+    }
+}
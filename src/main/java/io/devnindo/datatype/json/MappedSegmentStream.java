@@ -0,0 +1,97 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Reads a file through read only mappings of {@code segmentSize} bytes, one segment at a time. A segment passed
+ * over is no longer referenced, its mapping is released with the buffer.
+ */
+final class MappedSegmentStream extends InputStream {
+    private final FileChannel channel;
+    private final long size;
+    private final int segmentSize;
+    // file position of the end of the current segment
+    private long mappedTo;
+    private MappedByteBuffer segment;
+
+    MappedSegmentStream(FileChannel channel$, int segmentSize$) throws IOException {
+        channel = channel$;
+        size = channel$.size();
+        segmentSize = segmentSize$;
+    }
+
+    // the current segment with bytes remaining, null at the end of the file
+    private MappedByteBuffer segment() throws IOException {
+        if (segment != null && segment.hasRemaining())
+            return segment;
+        if (mappedTo >= size)
+            return null;
+        long len = Math.min(segmentSize, size - mappedTo);
+        segment = channel.map(FileChannel.MapMode.READ_ONLY, mappedTo, len);
+        mappedTo += len;
+        return segment;
+    }
+
+    /**
+     * the first byte that is not JSON whitespace, -1 for none, without consuming it
+     */
+    int peekToken() throws IOException {
+        for (MappedByteBuffer buf = segment(); buf != null; buf = segment()) {
+            for (int pos = buf.position(); pos < buf.limit(); pos++) {
+                byte b = buf.get(pos);
+                if (b != ' ' && b != '\n' && b != '\r' && b != '\t')
+                    return b & 0xFF;
+            }
+            // a segment of whitespace only is passed over
+            buf.position(buf.limit());
+        }
+        return -1;
+    }
+
+    @Override
+    public int read() throws IOException {
+        MappedByteBuffer buf = segment();
+        return buf == null ? -1 : buf.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int off, int len) throws IOException {
+        if (len == 0)
+            return 0;
+        MappedByteBuffer buf = segment();
+        if (buf == null)
+            return -1;
+        len = Math.min(len, buf.remaining());
+        buf.get(bytes, off, len);
+        return len;
+    }
+
+    @Override
+    public int available() {
+        return segment == null ? 0 : segment.remaining();
+    }
+
+    @Override
+    public void close() throws IOException {
+        segment = null;
+        channel.close();
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.devnindo.datatype.json.jackson.JacksonCodec;
+import io.devnindo.datatype.schema.BeanSchema;
+import io.devnindo.datatype.schema.DataBean;
+import io.devnindo.datatype.util.Either;
+import io.devnindo.datatype.validation.Violation;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads newline delimited JSON (JSON Lines), one object per line, from a stream. A single parser runs over the
+ * whole input and holds no more than its read buffer, documents are handed out one at a time as {@link JsonObject}
+ * or decoded straight into beans by {@link BeanSchema#readJson(JsonParser)}. Blank lines are skipped.
+ * <p>
+ * Malformed JSON, a line that is not an object or two documents on one line fail with a {@link DecodeException}
+ * naming the line, the reader can not go on after it. An object not valid for the schema is a left
+ * {@link Either} and reading goes on with the next line.
+ */
+public final class NdjsonReader implements Closeable {
+    private final JsonParser parser;
+    // the stream is closed along with the reader when opened by it
+    private final InputStream ownedIn;
+    // line of the END_OBJECT of the last document
+    private int lastLine;
+    private long docCount;
+
+    private NdjsonReader(InputStream in$, boolean owned$) {
+        parser = JacksonCodec.createParser(in$);
+        ownedIn = owned$ ? in$ : null;
+    }
+
+    /**
+     * reader over {@code in$}, which is not closed by {@link #close()}
+     */
+    public static NdjsonReader of(InputStream in$) {
+        return new NdjsonReader(in$, false);
+    }
+
+    public static NdjsonReader open(Path file$) throws IOException {
+        return new NdjsonReader(Files.newInputStream(file$), true);
+    }
+
+    /**
+     * the next document, null at the end of input
+     */
+    public JsonObject next() throws DecodeException {
+        try {
+            if (nextDocument() == false)
+                return null;
+            JsonObject doc = (JsonObject) JacksonCodec.readValue(parser);
+            lastLine = parser.getTokenLocation().getLineNr();
+            return doc;
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    /**
+     * the next document decoded by {@code schema$}, null at the end of input
+     */
+    public <D extends DataBean> Either<Violation, D> next(BeanSchema<D> schema$) throws DecodeException {
+        try {
+            if (nextDocument() == false)
+                return null;
+            Either<Violation, D> beanEither = schema$.readJson(parser);
+            lastLine = parser.getTokenLocation().getLineNr();
+            return beanEither;
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    /**
+     * documents read so far
+     */
+    public long count() {
+        return docCount;
+    }
+
+    /**
+     * the remaining documents, lazily read as the stream is consumed. Closing the stream closes the reader.
+     */
+    public Stream<JsonObject> stream() {
+        return stream(this::next);
+    }
+
+    public <D extends DataBean> Stream<Either<Violation, D>> stream(BeanSchema<D> schema$) {
+        return stream(() -> next(schema$));
+    }
+
+    private <T> Stream<T> stream(Supplier<T> next) {
+        Spliterator<T> split = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                T doc = next.get();
+                if (doc == null)
+                    return false;
+                action.accept(doc);
+                return true;
+            }
+        };
+        return StreamSupport.stream(split, false).onClose(this::close);
+    }
+
+    // moves to the START_OBJECT of the next document, which starts on a line after the end of the last one
+    private boolean nextDocument() throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null)
+            return false;
+        int line = parser.getTokenLocation().getLineNr();
+        if (token != JsonToken.START_OBJECT)
+            throw new DecodeException("Line " + line + " is not a JSON object");
+        if (docCount > 0 && line == lastLine)
+            throw new DecodeException("Line " + line + " holds more than one JSON document");
+        docCount++;
+        return true;
+    }
+
+    private DecodeException failure(IOException e) {
+        return new DecodeException("Failed to read line " + parser.getCurrentLocation().getLineNr() + ": "
+                + e.getMessage(), e);
+    }
+
+    @Override
+    public void close() {
+        try {
+            parser.close();
+            if (ownedIn != null)
+                ownedIn.close();
+        } catch (IOException e) {
+            throw new DecodeException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.devnindo.datatype.json.jackson.JacksonCodec;
+import io.devnindo.datatype.schema.BeanSchema;
+import io.devnindo.datatype.schema.DataBean;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes newline delimited JSON (JSON Lines), one compact object per line, counterpart of {@link NdjsonReader}.
+ * A single generator runs over the output and buffers it, so the target stream gets large writes.
+ */
+public final class NdjsonWriter implements Closeable, Flushable {
+    private final JsonGenerator generator;
+    // the stream is closed along with the writer when opened by it
+    private final OutputStream ownedOut;
+    private long docCount;
+
+    private NdjsonWriter(OutputStream out$, boolean owned$) {
+        generator = JacksonCodec.createGenerator(out$);
+        generator.setRootValueSeparator(null);
+        ownedOut = owned$ ? out$ : null;
+    }
+
+    /**
+     * writer over {@code out$}, which is flushed but not closed by {@link #close()}
+     */
+    public static NdjsonWriter of(OutputStream out$) {
+        return new NdjsonWriter(out$, false);
+    }
+
+    /**
+     * writer creating or truncating {@code file$}
+     */
+    public static NdjsonWriter open(Path file$) throws IOException {
+        return new NdjsonWriter(Files.newOutputStream(file$), true);
+    }
+
+    /**
+     * writer appending to {@code file$}, created if missing
+     */
+    public static NdjsonWriter append(Path file$) throws IOException {
+        OpenOption[] options = {StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE};
+        return new NdjsonWriter(Files.newOutputStream(file$, options), true);
+    }
+
+    public NdjsonWriter write(JsonObject json$) throws EncodeException {
+        JacksonCodec.writeValue(json$, generator);
+        return endLine();
+    }
+
+    public <D extends DataBean> NdjsonWriter write(D bean$) throws EncodeException {
+        BeanSchema<D> schema = BeanSchema.forClass(bean$.getClass());
+        try {
+            schema.writeJson(bean$, generator);
+        } catch (IOException e) {
+            throw new EncodeException(e.getMessage(), e);
+        }
+        return endLine();
+    }
+
+    /**
+     * documents written so far
+     */
+    public long count() {
+        return docCount;
+    }
+
+    private NdjsonWriter endLine() {
+        try {
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new EncodeException(e.getMessage(), e);
+        }
+        docCount++;
+        return this;
+    }
+
+    @Override
+    public void flush() {
+        try {
+            generator.flush();
+        } catch (IOException e) {
+            throw new EncodeException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            generator.close();
+            if (ownedOut != null)
+                ownedOut.close();
+        } catch (IOException e) {
+            throw new EncodeException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.json.jackson;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Reads the remaining bytes of a buffer, used to feed the parser from direct buffers
+ * which have no backing array.
+ */
+final class ByteBufferInputStream extends InputStream {
+
+    private final ByteBuffer buf;
+
+    ByteBufferInputStream(ByteBuffer buf$) {
+        buf = buf$;
+    }
+
+    @Override
+    public int read() {
+        if (!buf.hasRemaining()) {
+            return -1;
+        }
+        return buf.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        if (!buf.hasRemaining()) {
+            return -1;
+        }
+        len = Math.min(len, buf.remaining());
+        buf.get(bytes, off, len);
+        return len;
+    }
+
+    @Override
+    public long skip(long n) {
+        int skipped = (int) Math.min(n, buf.remaining());
+        buf.position(buf.position() + skipped);
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return buf.remaining();
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.json.jackson;
+
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Writes into a fixed buffer, throws {@link BufferOverflowException} when the buffer runs out of room.
+ */
+final class ByteBufferOutputStream extends OutputStream {
+
+    private final ByteBuffer buf;
+
+    ByteBufferOutputStream(ByteBuffer buf$) {
+        buf = buf$;
+    }
+
+    @Override
+    public void write(int b) {
+        buf.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] bytes, int off, int len) {
+        if (len > buf.remaining()) {
+            throw new BufferOverflowException();
+        }
+        buf.put(bytes, off, len);
+    }
+}
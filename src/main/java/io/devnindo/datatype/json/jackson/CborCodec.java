@@ -0,0 +1,161 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.json.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.cbor.CBORParser;
+import io.devnindo.datatype.json.ByteCodec;
+import io.devnindo.datatype.json.DecodeException;
+import io.devnindo.datatype.json.EncodeException;
+import io.devnindo.datatype.schema.BeanSchema;
+import io.devnindo.datatype.schema.DataBean;
+import io.devnindo.datatype.util.Either;
+import io.devnindo.datatype.validation.Violation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+
+import static java.time.format.DateTimeFormatter.ISO_INSTANT;
+
+/**
+ * Binary codec over CBOR (RFC-8949) for service to service traffic, decodes to the same
+ * {@link io.devnindo.datatype.json.JsonObject}/{@link io.devnindo.datatype.json.JsonArray} model as {@link JacksonCodec}.
+ * Unlike JSON text, {@code byte[]} values are written as raw byte strings and {@link java.time.Instant} values as
+ * tagged date/time strings, so both come back with their type. Enums are written by name, as in JSON.
+ * There is no text form, so it is a {@link ByteCodec} only and cannot back {@link io.devnindo.datatype.json.Json#CODEC}.
+ */
+public class CborCodec implements ByteCodec {
+
+    private static final CBORFactory factory = new CBORFactory();
+
+    // RFC-8949 standard date/time string
+    private static final int DATE_TIME_TAG = 0;
+
+    private static JsonParser createParser(byte[] byteData, int offset, int len) {
+        try {
+            return new TagParser(factory.createParser(byteData, offset, len));
+        } catch (IOException e) {
+            throw new DecodeException("Failed to decode:" + e.getMessage(), e);
+        }
+    }
+
+    private static JsonGenerator createGenerator(OutputStream out) {
+        try {
+            return new TagGenerator(factory.createGenerator(out));
+        } catch (IOException e) {
+            throw new EncodeException("Failed to encode:" + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public <T> T fromByteData(byte[] byteData, int offset, int len, Class<T> clazz) throws DecodeException {
+        return JacksonCodec.fromParser(createParser(byteData, offset, len), clazz);
+    }
+
+    /**
+     * decode a single CBOR data item from {@code in}, the stream is not closed
+     */
+    @Override
+    public <T> T fromStream(InputStream in, Class<T> clazz) throws DecodeException {
+        try {
+            JsonParser parser = new TagParser(factory.createParser(in))
+                    .disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            return JacksonCodec.fromParser(parser, clazz);
+        } catch (IOException e) {
+            throw new DecodeException("Failed to decode:" + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * decode with {@link BeanSchema#readJson(JsonParser)} straight from the CBOR tokens
+     */
+    @Override
+    public <D extends DataBean> Either<Violation, D> decodeBean(BeanSchema<D> schema, byte[] byteData, int offset, int len)
+            throws DecodeException {
+        return JacksonCodec.readBean(schema, createParser(byteData, offset, len));
+    }
+
+    /**
+     * {@code pretty} has no meaning for a binary format and is ignored
+     */
+    @Override
+    public byte[] encodeToBytes(Object object, boolean pretty) throws EncodeException {
+        ByteArrayBuilder out = new ByteArrayBuilder(factory._getBufferRecycler());
+        JsonGenerator generator = createGenerator(out);
+        try {
+            JacksonCodec.writeValue(object, generator);
+            generator.flush();
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new EncodeException(e.getMessage(), e);
+        } finally {
+            JacksonCodec.close(generator);
+            out.release();
+        }
+    }
+
+    /**
+     * encode to {@code out}, the stream is flushed but not closed
+     */
+    @Override
+    public void encodeTo(Object object, OutputStream out, boolean pretty) throws EncodeException {
+        JsonGenerator generator = createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        try {
+            JacksonCodec.writeValue(object, generator);
+            generator.flush();
+        } catch (IOException e) {
+            throw new EncodeException(e.getMessage(), e);
+        } finally {
+            JacksonCodec.close(generator);
+        }
+    }
+
+    // a date/time string comes back as an Instant
+    private static final class TagParser extends JsonParserDelegate implements JacksonCodec.TypedStringParser {
+        private TagParser(CBORParser parser$) {
+            super(parser$);
+        }
+
+        @Override
+        public Object readString() throws IOException {
+            if (((CBORParser) delegate).getCurrentTag() == DATE_TIME_TAG)
+                return Instant.from(ISO_INSTANT.parse(delegate.getText()));
+            return delegate.getText();
+        }
+    }
+
+    // an Instant is written as a tagged date/time string
+    private static final class TagGenerator extends JsonGeneratorDelegate implements JacksonCodec.TypedInstantGenerator {
+        private TagGenerator(CBORGenerator generator$) {
+            super(generator$, false);
+        }
+
+        @Override
+        public void writeInstant(Instant instant) throws IOException {
+            ((CBORGenerator) delegate).writeTag(DATE_TIME_TAG);
+            delegate.writeString(ISO_INSTANT.format(instant));
+        }
+    }
+}
@@ -25,51 +25,56 @@
 package io.devnindo.datatype.json.jackson;
 
 import io.devnindo.datatype.json.*;
+import io.devnindo.datatype.schema.BeanSchema;
+import io.devnindo.datatype.schema.DataBean;
+import io.devnindo.datatype.util.CompactMap;
+import io.devnindo.datatype.util.Either;
+import io.devnindo.datatype.validation.Violation;
 import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
 
 import java.io.*;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import static io.devnindo.datatype.util.JsonUtil.*;
 import static java.time.format.DateTimeFormatter.ISO_INSTANT;
 
-public class JacksonCodec {
+public class JacksonCodec implements JsonCodec {
 
     private static final JsonFactory factory = new JsonFactory();
 
+    /**
+     * implemented by the parser of a binary format whose strings may carry a type, as the tagged date/time strings of
+     * {@link CborCodec}
+     */
+    interface TypedStringParser {
+        /**
+         * the value of the current string token, an {@link Instant} for a date/time string
+         */
+        Object readString() throws IOException;
+    }
+
+    /**
+     * implemented by the generator of a binary format with a native date/time type, see {@link CborCodec}
+     */
+    interface TypedInstantGenerator {
+        void writeInstant(Instant instant) throws IOException;
+    }
+
     static {
         // Non-standard JSON but we allow C style comments in our JSON
         factory.configure(JsonParser.Feature.ALLOW_COMMENTS, true);
         factory.configure(JsonParser.Feature.ALLOW_UNQUOTED_FIELD_NAMES, true);
     }
 
-    /**
-     * encode JsonObject or JsonArray to buffer
-     */
-  /*public Buffer encodeToBuffer(Object object, boolean pretty) throws EncodeException {
-    ByteBuf buf = Unpooled.buffer();
-    // There is no need to use a try with resources here as jackson
-    // is a well-behaved and always calls the closes all streams in the
-    // "finally" block bellow.
-    ByteBufOutputStream out = new ByteBufOutputStream(buf);
-    JsonGenerator generator = createGenerator(out, pretty);
-
-    try {
-      encodeJson0(object, generator);
-      generator.flush();
-      return Buffer.buffer(buf);
-    } catch (IOException e) {
-      throw new EncodeException(e.getMessage(), e);
-    } finally {
-      close(generator);
-    }
-  }*/
     public static JsonParser createParser(String str) {
         try {
             return factory.createParser(str);
@@ -86,6 +91,34 @@ public class JacksonCodec {
         }
     }
 
+    public static JsonParser createParser(byte[] byteData, int offset, int len) {
+        try {
+            return factory.createParser(byteData, offset, len);
+        } catch (IOException e) {
+            throw new DecodeException("Failed to decode:" + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * the parser does not close {@code in}
+     */
+    public static JsonParser createParser(InputStream in) {
+        try {
+            return factory.createParser(in)
+                    .disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        } catch (IOException e) {
+            throw new DecodeException("Failed to decode:" + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * compact UTF-8 generator, which does not close {@code out}
+     */
+    public static JsonGenerator createGenerator(OutputStream out) {
+        return createGenerator(out, false)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
     private static JsonGenerator createGenerator(Writer out, boolean pretty) {
         try {
             JsonGenerator generator = factory.createGenerator(out);
@@ -128,6 +161,26 @@ public class JacksonCodec {
         return cast(res, type);
     }
 
+    /**
+     * parse the value at the current token of {@code parser}, objects and arrays come back wrapped as
+     * {@link JsonObject} and {@link JsonArray}. The parser is left at the last token of the value.
+     */
+    public static Object readValue(JsonParser parser) throws IOException, DecodeException {
+        return parseNested(parser);
+    }
+
+    // nested objects and arrays are stored wrapped, so the accessors hand them out without wrapping again
+    private static Object parseNested(JsonParser parser) throws IOException, DecodeException {
+        switch (parser.currentTokenId()) {
+            case JsonTokenId.ID_START_OBJECT:
+                return new JsonObject(parseObject(parser));
+            case JsonTokenId.ID_START_ARRAY:
+                return new JsonArray(parseArray(parser));
+            default:
+                return parseAny(parser);
+        }
+    }
+
     private static Object parseAny(JsonParser parser) throws IOException, DecodeException {
         switch (parser.currentTokenId()) {
             case JsonTokenId.ID_START_OBJECT:
@@ -135,7 +188,13 @@ public class JacksonCodec {
             case JsonTokenId.ID_START_ARRAY:
                 return parseArray(parser);
             case JsonTokenId.ID_STRING:
+                if (parser instanceof TypedStringParser) {
+                    return ((TypedStringParser) parser).readString();
+                }
                 return parser.getText();
+            case JsonTokenId.ID_EMBEDDED_OBJECT:
+                // raw bytes of a binary format
+                return parser.getEmbeddedObject();
             case JsonTokenId.ID_NUMBER_FLOAT:
             case JsonTokenId.ID_NUMBER_INT:
                 return parser.getNumberValue();
@@ -153,32 +212,32 @@ public class JacksonCodec {
     private static Map<String, Object> parseObject(JsonParser parser) throws IOException {
         String key1 = parser.nextFieldName();
         if (key1 == null) {
-            return new LinkedHashMap<>(2);
+            return new CompactMap<>(0);
         }
         parser.nextToken();
-        Object value1 = parseAny(parser);
+        Object value1 = parseNested(parser);
         String key2 = parser.nextFieldName();
         if (key2 == null) {
-            LinkedHashMap<String, Object> obj = new LinkedHashMap<>(2);
+            Map<String, Object> obj = new CompactMap<>(1);
             obj.put(key1, value1);
             return obj;
         }
         parser.nextToken();
-        Object value2 = parseAny(parser);
+        Object value2 = parseNested(parser);
         String key = parser.nextFieldName();
         if (key == null) {
-            LinkedHashMap<String, Object> obj = new LinkedHashMap<>(2);
+            Map<String, Object> obj = new CompactMap<>(2);
             obj.put(key1, value1);
             obj.put(key2, value2);
             return obj;
         }
-        // General case
-        LinkedHashMap<String, Object> obj = new LinkedHashMap<>();
+        // General case, promotes itself to a hash map past CompactMap.COMPACT_MAX keys
+        Map<String, Object> obj = new CompactMap<>();
         obj.put(key1, value1);
         obj.put(key2, value2);
         do {
             parser.nextToken();
-            Object value = parseAny(parser);
+            Object value = parseNested(parser);
             obj.put(key, value);
             key = parser.nextFieldName();
         } while (key != null);
@@ -195,7 +254,7 @@ public class JacksonCodec {
             } else if (tokenId == JsonTokenId.ID_END_ARRAY) {
                 return array;
             }
-            Object value = parseAny(parser);
+            Object value = parseNested(parser);
             array.add(value);
         }
     }
@@ -207,6 +266,13 @@ public class JacksonCodec {
         }
     }
 
+    /**
+     * write a json value, a {@link Jsonable} or a {@link DataBean} at the current position of {@code generator}
+     */
+    public static void writeValue(Object val, JsonGenerator generator) throws EncodeException {
+        encodeJson0(val, generator);
+    }
+
     // In recursive calls, the callee is in charge of opening and closing the data structure
     private static void encodeJson0(Object json, JsonGenerator generator) throws EncodeException {
         try {
@@ -217,10 +283,15 @@ public class JacksonCodec {
             }
             if (json instanceof Map) {
                 generator.writeStartObject();
-                for (Map.Entry<String, ?> e : ((Map<String, ?>) json).entrySet()) {
-                    generator.writeFieldName(e.getKey());
-                    encodeJson0(e.getValue(), generator);
-                }
+                // forEach walks a CompactMap without creating entries
+                ((Map<String, ?>) json).forEach((key, val) -> {
+                    try {
+                        generator.writeFieldName(key);
+                    } catch (IOException e) {
+                        throw new EncodeException(e.getMessage(), e);
+                    }
+                    encodeJson0(val, generator);
+                });
                 generator.writeEndObject();
             } else if (json instanceof List) {
                 generator.writeStartArray();
@@ -253,15 +324,25 @@ public class JacksonCodec {
             } else if (json instanceof Boolean) {
                 generator.writeBoolean((Boolean) json);
             } else if (json instanceof Instant) {
-                // RFC-7493
-                generator.writeString((ISO_INSTANT.format((Instant) json)));
+                if (generator instanceof TypedInstantGenerator) {
+                    ((TypedInstantGenerator) generator).writeInstant((Instant) json);
+                } else {
+                    // RFC-7493
+                    generator.writeString((ISO_INSTANT.format((Instant) json)));
+                }
             } else if (json instanceof byte[]) {
-                // RFC-7493
-                generator.writeString(BASE64_ENCODER.encodeToString((byte[]) json));
+                if (generator.canWriteBinaryNatively()) {
+                    generator.writeBinary((byte[]) json);
+                } else {
+                    // RFC-7493
+                    generator.writeString(BASE64_ENCODER.encodeToString((byte[]) json));
+                }
             } else if (json instanceof Enum) {
                 // vert.x extra (non standard but allowed conversion)
                 generator.writeString(((Enum<?>) json).name());
-            } else if (json instanceof Jsonable) // to support encoding of DataBean and other Jsonable
+            } else if (json instanceof DataBean) {
+                BeanSchema.forClass(((DataBean) json).getClass()).writeJson((DataBean) json, generator);
+            } else if (json instanceof Jsonable) // to support encoding of other Jsonable
             {
                 encodeJson0(Jsonable.class.cast(json).toJson(), generator);
             } else if (json == null) {
@@ -333,14 +414,126 @@ public class JacksonCodec {
         }
     }
 
+    @Override
     public <T> T fromString(String json, Class<T> clazz) throws DecodeException {
         return fromParser(createParser(json), clazz);
     }
 
+    @Override
     public <T> T fromByteData(byte[] byteData, Class<T> clazz) throws DecodeException {
         return fromParser(createParser(byteData), clazz);
     }
 
+    /**
+     * decode the remaining bytes of a heap or direct buffer, the position of {@code buf} is not changed
+     */
+    @Override
+    public <T> T fromByteBuffer(ByteBuffer buf, Class<T> clazz) throws DecodeException {
+        if (buf.hasArray()) {
+            return fromByteData(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining(), clazz);
+        }
+        return fromParser(createParser(new ByteBufferInputStream(buf.duplicate())), clazz);
+    }
+
+    /**
+     * decode a single JSON document from {@code in}, the stream is read to its end but not closed
+     */
+    @Override
+    public <T> T fromStream(InputStream in, Class<T> clazz) throws DecodeException {
+        return fromParser(createParser(in), clazz);
+    }
+
+    /**
+     * decode a slice of a larger buffer, the slice is parsed in place without being copied
+     */
+    @Override
+    public <T> T fromByteData(byte[] byteData, int offset, int len, Class<T> clazz) throws DecodeException {
+        return fromParser(createParser(byteData, offset, len), clazz);
+    }
+
+    /**
+     * decode with {@link BeanSchema#readJson(JsonParser)}, no {@link JsonObject} tree is built
+     */
+    @Override
+    public <D extends DataBean> Either<Violation, D> decodeBean(BeanSchema<D> schema, byte[] byteData, int offset, int len)
+            throws DecodeException {
+        return readBean(schema, createParser(byteData, offset, len));
+    }
+
+    static <D extends DataBean> Either<Violation, D> readBean(BeanSchema<D> schema, JsonParser parser)
+            throws DecodeException {
+        try {
+            if (parser.nextToken() != JsonToken.START_OBJECT)
+                throw new DecodeException("Invalid JSON object");
+            Either<Violation, D> result = schema.readJson(parser);
+            if (parser.nextToken() != null)
+                throw new DecodeException("Unexpected trailing token");
+            return result;
+        } catch (IOException e) {
+            throw new DecodeException(e.getMessage(), e);
+        } finally {
+            close(parser);
+        }
+    }
+
+    /**
+     * encode JsonObject, JsonArray or DataBean straight to UTF-8 bytes, the generator writes into
+     * recycled byte segments so there is no intermediate String or char[] copy
+     */
+    @Override
+    public byte[] encodeToBytes(Object object, boolean pretty) throws EncodeException {
+        ByteArrayBuilder out = new ByteArrayBuilder(factory._getBufferRecycler());
+        JsonGenerator generator = createGenerator(out, pretty);
+        try {
+            encodeJson0(object, generator);
+            generator.flush();
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new EncodeException(e.getMessage(), e);
+        } finally {
+            close(generator);
+            out.release();
+        }
+    }
+
+    /**
+     * encode to {@code out} as UTF-8, the stream is flushed but not closed
+     */
+    @Override
+    public void encodeTo(Object object, OutputStream out, boolean pretty) throws EncodeException {
+        JsonGenerator generator = createGenerator(out, pretty)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        try {
+            encodeJson0(object, generator);
+            generator.flush();
+        } catch (IOException e) {
+            throw new EncodeException(e.getMessage(), e);
+        } finally {
+            close(generator);
+        }
+    }
+
+    /**
+     * encode to a blocking channel, the channel is not closed
+     */
+    @Override
+    public void encodeTo(Object object, WritableByteChannel channel, boolean pretty) throws EncodeException {
+        encodeTo(object, Channels.newOutputStream(channel), pretty);
+    }
+
+    /**
+     * encode into a heap or direct buffer from its position, the position is advanced past the written bytes
+     *
+     * @throws java.nio.BufferOverflowException if the encoding does not fit, the position is left unchanged then
+     */
+    @Override
+    public void encodeTo(Object object, ByteBuffer buf, boolean pretty) throws EncodeException {
+        ByteBuffer target = buf.duplicate();
+        encodeTo(object, new ByteBufferOutputStream(target), pretty);
+        buf.position(target.position());
+    }
+
+    @Override
     public String encodeToString(Object object, boolean pretty) throws EncodeException {
         StringWriter sw = new StringWriter();
         JsonGenerator generator = createGenerator(sw, pretty);
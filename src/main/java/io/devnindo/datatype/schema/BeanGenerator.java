@@ -0,0 +1,273 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.schema;
+
+import io.devnindo.datatype.json.EncodeException;
+import io.devnindo.datatype.json.JsonArray;
+import io.devnindo.datatype.json.JsonObject;
+import io.devnindo.datatype.json.NdjsonWriter;
+import io.devnindo.datatype.schema.typeresolver.BeanResolver;
+import io.devnindo.datatype.schema.typeresolver.TypeResolver;
+import io.devnindo.datatype.schema.typeresolver.jsons.JsonArrayResolver;
+import io.devnindo.datatype.schema.typeresolver.jsons.JsonObjectResolver;
+import io.devnindo.datatype.schema.typeresolver.literals.EnumResolver;
+import io.devnindo.datatype.schema.typeresolver.lists.BeanListResolver;
+import io.devnindo.datatype.schema.typeresolver.lists.DataListResolver;
+import io.devnindo.datatype.util.Either;
+import io.devnindo.datatype.validation.Violation;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Generates random valid JSON documents and beans of a {@link BeanSchema}, field by field from the type resolvers of
+ * its {@link SchemaField}s. The same seed and configuration give the same sequence of documents.
+ * <ul>
+ *     <li>{@link #listLength} and {@link #stringLength} draw the sizes of lists, strings and binaries</li>
+ *     <li>{@link #maxDepth} bounds nested beans, optional bean fields below it are left out</li>
+ *     <li>{@link #nullRatio} is the share of optional fields left out of a document</li>
+ * </ul>
+ * Fields of plain types registered by the application are left out, a required one fails the generation.
+ * An instance is not thread safe.
+ */
+public final class BeanGenerator {
+    // a chain of required bean fields deeper than this is taken for a cycle
+    private static final int REQUIRED_DEPTH_LIMIT = 32;
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyz";
+    private static final long INSTANT_FROM = Instant.parse("2000-01-01T00:00:00Z").getEpochSecond();
+    private static final long INSTANT_TO = Instant.parse("2040-01-01T00:00:00Z").getEpochSecond();
+
+    private final SplittableRandom random;
+    private SizeDistribution listLength = SizeDistribution.uniform(0, 4);
+    private SizeDistribution stringLength = SizeDistribution.uniform(4, 16);
+    private int maxDepth = 2;
+    private double nullRatio = 0.1;
+
+    private BeanGenerator(long seed$) {
+        random = new SplittableRandom(seed$);
+    }
+
+    public static final BeanGenerator create(long seed$) {
+        return new BeanGenerator(seed$);
+    }
+
+    public static final BeanGenerator create(long seed$, Consumer<BeanGenerator> config$) {
+        BeanGenerator generator = new BeanGenerator(seed$);
+        config$.accept(generator);
+        return generator;
+    }
+
+    public BeanGenerator listLength(SizeDistribution listLength$) {
+        listLength = listLength$;
+        return this;
+    }
+
+    public BeanGenerator stringLength(SizeDistribution stringLength$) {
+        stringLength = stringLength$;
+        return this;
+    }
+
+    /**
+     * @param maxDepth$ levels of nested beans below the generated one, 0 leaves out every optional bean field
+     */
+    public BeanGenerator maxDepth(int maxDepth$) {
+        if (maxDepth$ < 0)
+            throw new IllegalArgumentException("max depth must not be negative: " + maxDepth$);
+        maxDepth = maxDepth$;
+        return this;
+    }
+
+    public BeanGenerator nullRatio(double nullRatio$) {
+        if (nullRatio$ < 0 || nullRatio$ > 1)
+            throw new IllegalArgumentException("null ratio must be in [0, 1]: " + nullRatio$);
+        nullRatio = nullRatio$;
+        return this;
+    }
+
+    public JsonObject nextJson(Class<? extends DataBean> beanClz$) {
+        return nextJson(BeanSchema.forClass(beanClz$), 0);
+    }
+
+    public <D extends DataBean> D nextBean(Class<D> beanClz$) {
+        BeanSchema<D> schema = BeanSchema.forClass(beanClz$);
+        Either<Violation, D> beanEither = schema.apply(nextJson(schema, 0));
+        if (beanEither.isLeft())
+            throw new IllegalStateException("Generated an invalid " + beanClz$.getSimpleName() + ": "
+                    + beanEither.left().toJson().encode());
+        return beanEither.right();
+    }
+
+    /**
+     * write {@code count$} documents to {@code out} as newline delimited JSON, the stream is flushed but not closed
+     */
+    public void writeNdjson(Class<? extends DataBean> beanClz$, long count$, OutputStream out) throws EncodeException {
+        try (NdjsonWriter writer = NdjsonWriter.of(out)) {
+            writeNdjson(beanClz$, count$, writer);
+        }
+    }
+
+    public void writeNdjson(Class<? extends DataBean> beanClz$, long count$, NdjsonWriter writer$) throws EncodeException {
+        BeanSchema<?> schema = BeanSchema.forClass(beanClz$);
+        for (long idx = 0; idx < count$; idx++)
+            writer$.write(nextJson(schema, 0));
+    }
+
+    /**
+     * write {@code count$} documents to {@code file$} as newline delimited JSON, replacing the file
+     */
+    public void writeNdjson(Class<? extends DataBean> beanClz$, long count$, Path file$) throws IOException {
+        try (NdjsonWriter writer = NdjsonWriter.open(file$)) {
+            writeNdjson(beanClz$, count$, writer);
+        }
+    }
+
+    private JsonObject nextJson(BeanSchema<?> schema, int depth) {
+        if (depth > maxDepth + REQUIRED_DEPTH_LIMIT)
+            throw new IllegalStateException("Required bean fields of " + schema.getClass().getSimpleName()
+                    + " nest without end");
+
+        JsonObject json = new JsonObject();
+        for (SchemaField<?, ?> field : schema.fields()) {
+            if (field.isRequired() == false && random.nextDouble() < nullRatio)
+                continue;
+            Object val = nextValue(field.typeResolver, depth, field.isRequired());
+            if (val != null)
+                json.put(field.name, val);
+            else if (field.isRequired())
+                throw new IllegalStateException("No generator for the required field " + field.name + " of type "
+                        + field.typeResolver.packedType());
+        }
+        return json;
+    }
+
+    // null to leave the field out
+    private Object nextValue(TypeResolver<?> resolver, int depth, boolean required) {
+        String packedType = resolver.packedType();
+        switch (packedType) {
+            case "bean":
+                if (depth >= maxDepth && required == false)
+                    return null;
+                return nextJson(BeanSchema.forClass(((BeanResolver<?>) resolver).beanType), depth + 1);
+            case "list<bean>":
+                if (depth >= maxDepth && required == false)
+                    return null;
+                BeanSchema<?> itemSchema = BeanSchema.forClass(((BeanListResolver<?>) resolver).beanType);
+                JsonArray beanArr = new JsonArray();
+                for (int len = listLength.next(random); len > 0; len--)
+                    beanArr.add(nextJson(itemSchema, depth + 1));
+                return beanArr;
+            case "enum":
+                Object[] constArr = ((EnumResolver<?>) resolver).enumType.getEnumConstants();
+                return ((Enum<?>) constArr[random.nextInt(constArr.length)]).name();
+            case "cbor":
+                if (resolver instanceof JsonObjectResolver)
+                    return nextJsonObject();
+                if (resolver instanceof JsonArrayResolver)
+                    return new JsonArray().add(nextString()).add(random.nextInt(1_000_000));
+                return null;
+            default:
+                if (packedType.startsWith("list<"))
+                    return nextList(resolver, packedType.substring(5, packedType.length() - 1));
+                return nextPlain(packedType);
+        }
+    }
+
+    private JsonArray nextList(TypeResolver<?> resolver, String itemType) {
+        boolean objItem = resolver instanceof DataListResolver
+                && ((DataListResolver<?>) resolver).dataType == JsonObject.class;
+        if (objItem == false && nextPlain(itemType) == null)
+            return null;
+
+        JsonArray array = new JsonArray();
+        for (int len = listLength.next(random); len > 0; len--)
+            array.add(objItem ? nextJsonObject() : nextPlain(itemType));
+        return array;
+    }
+
+    private Object nextPlain(String packedType) {
+        switch (packedType) {
+            case "int":
+                return random.nextInt(1_000_000);
+            case "long":
+                return random.nextLong(Long.MAX_VALUE);
+            case "double":
+                return random.nextDouble() * 1_000_000;
+            case "boolean":
+                return random.nextBoolean();
+            case "string":
+                return nextString();
+            case "instant":
+                return Instant.ofEpochSecond(random.nextLong(INSTANT_FROM, INSTANT_TO));
+            case "binary":
+                byte[] data = new byte[stringLength.next(random)];
+                for (int idx = 0; idx < data.length; idx++)
+                    data[idx] = (byte) random.nextInt(256);
+                return data;
+            default:
+                return null;
+        }
+    }
+
+    private String nextString() {
+        char[] chars = new char[stringLength.next(random)];
+        for (int idx = 0; idx < chars.length; idx++)
+            chars[idx] = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+        return new String(chars);
+    }
+
+    private JsonObject nextJsonObject() {
+        return new JsonObject()
+                .put("key", nextString())
+                .put("val", random.nextInt(1_000_000));
+    }
+
+    /**
+     * Size of a generated list, string or binary
+     */
+    @FunctionalInterface
+    public interface SizeDistribution {
+        int next(SplittableRandom random);
+
+        static SizeDistribution fixed(int size$) {
+            if (size$ < 0)
+                throw new IllegalArgumentException("size must not be negative: " + size$);
+            return random -> size$;
+        }
+
+        /**
+         * sizes in [{@code min$}, {@code max$}], equally likely
+         */
+        static SizeDistribution uniform(int min$, int max$) {
+            if (min$ < 0 || max$ < min$)
+                throw new IllegalArgumentException("invalid size range: [" + min$ + ", " + max$ + "]");
+            return random -> random.nextInt(min$, max$ + 1);
+        }
+
+        /**
+         * mostly small sizes with a long tail, geometric with mean {@code mean$} and capped at {@code max$}
+         */
+        static SizeDistribution geometric(double mean$, int max$) {
+            if (mean$ <= 0 || max$ < 0)
+                throw new IllegalArgumentException("invalid geometric size: mean " + mean$ + ", max " + max$);
+            double logMiss = Math.log(mean$ / (mean$ + 1));
+            return random -> (int) Math.min(max$, Math.floor(Math.log(1 - random.nextDouble()) / logMiss));
+        }
+    }
+}
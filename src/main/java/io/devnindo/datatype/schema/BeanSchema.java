@@ -15,67 +15,190 @@
  */
 package io.devnindo.datatype.schema;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.devnindo.datatype.json.DecodeException;
+import io.devnindo.datatype.json.Json;
+import io.devnindo.datatype.json.JsonCodecs;
 import io.devnindo.datatype.json.JsonObject;
+import io.devnindo.datatype.json.jackson.JacksonCodec;
 import io.devnindo.datatype.schema.typeresolver.TypeResolverFactory;
 import io.devnindo.datatype.schema.typeresolver.TypeResolver;
 import io.devnindo.datatype.schema.typeresolver.literals.EnumResolver;
 import io.devnindo.datatype.util.ClzUtil;
 import io.devnindo.datatype.util.Either;
+import io.devnindo.datatype.util.PackedReader;
+import io.devnindo.datatype.util.PackedWriter;
 import io.devnindo.datatype.validation.ObjViolation;
 import io.devnindo.datatype.validation.Violation;
+import io.devnindo.datatype.validation.ViolationSink;
+import io.devnindo.datatype.validation.violations.LogicalViolations;
 
-import java.lang.reflect.InvocationTargetException;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public abstract class BeanSchema<T extends DataBean> {
 
-    private static Map<String, BeanSchema> SCHEMA_MAP;
-
-    static {
-        SCHEMA_MAP = new HashMap<>();
-        List<Class<?>> schemaList = ClzUtil.findSubClzList(BeanSchema.class);
-        schemaList.forEach(schema -> {
-            //calculate beanName according to convention
-            // NAMING: For a Bean, schema name is $Bean;
-            // PACKAGE: Generated Schema has same package as the bean
-            // omit prefix "$"
-            String beanSimpleName = schema.getSimpleName().substring(1);
-            String beanName = schema.getPackage().getName() + "." + beanSimpleName;
-            try {
-                BeanSchema instance = (BeanSchema) schema.getConstructor().newInstance();
-                SCHEMA_MAP.put(beanName, instance);
-            } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
-                     NoSuchMethodException ex) {
-                Logger.getLogger(BeanSchema.class.getName()).log(Level.SEVERE, null, ex);
-            }
-        });
-    }
+    // the steady state lookup, resolved on first use of a bean class
+    private static final ClassValue<BeanSchema> SCHEMA_VALUE = new ClassValue<BeanSchema>() {
+        @Override
+        protected BeanSchema computeValue(Class<?> beanClz) {
+            return resolve(beanClz);
+        }
+    };
+    // by bean name, for of(String)
+    private static final Map<String, BeanSchema> SCHEMA_MAP = new ConcurrentHashMap<>();
+    // bean name to schema class name from the index files or the classpath scan, for schemas off the convention
+    private static final Map<String, String> FOUND_MAP = new ConcurrentHashMap<>();
+    private static boolean indexRead;
+    private static boolean indexFound;
+    private static boolean scanned;
+    private static volatile boolean layoutsRegistered;
 
-    @Deprecated
-    public static <D extends DataBean> BeanSchema<D> of(Class<D> modelClz$) {
-        BeanSchema schema = SCHEMA_MAP.get(modelClz$.getName());
+    /**
+     * Schema of {@code beanClz$}, loaded on first use as the class {@code $Bean} in the package of the bean and kept
+     * with the class, so later calls cost no map lookup.
+     *
+     * @throws IllegalStateException if the bean has no schema
+     */
+    public static <D extends DataBean> BeanSchema<D> forClass(Class<? extends DataBean> beanClz$) {
+        BeanSchema schema = SCHEMA_VALUE.get(beanClz$);
         if (schema == null)
-            throw new IllegalStateException("No schema found for DataBean: " + modelClz$.getName());
+            throw new IllegalStateException("No schema found for DataBean: " + beanClz$.getName());
 
         return schema;
     }
 
+    @Deprecated
+    public static <D extends DataBean> BeanSchema<D> of(Class<D> modelClz$) {
+        return forClass(modelClz$);
+    }
+
     /**
      * @param clzName fully qualified name of the target DataBean
      * */
     public static <D extends DataBean> BeanSchema<D> of(String clzName) {
         BeanSchema schema = SCHEMA_MAP.get(clzName);
-        if (schema == null)
+        if (schema != null)
+            return schema;
+
+        Class<?> beanClz;
+        try {
+            beanClz = Class.forName(clzName, false, contextLoader());
+        } catch (ClassNotFoundException ex) {
+            throw new IllegalStateException("No schema found for DataBean: " + clzName, ex);
+        }
+        if (DataBean.class.isAssignableFrom(beanClz) == false)
             throw new IllegalStateException("No schema found for DataBean: " + clzName);
 
+        schema = forClass((Class<? extends DataBean>) beanClz);
+        SCHEMA_MAP.putIfAbsent(clzName, schema);
         return schema;
     }
 
+    private static BeanSchema resolve(Class<?> beanClz) {
+        // NAMING: For a Bean, schema name is $Bean;
+        // PACKAGE: Generated Schema has same package as the bean
+        String pkgName = beanClz.getPackageName();
+        String schemaName = (pkgName.isEmpty() ? "" : pkgName + ".") + "$" + beanClz.getSimpleName();
+        if (beanClz.getSimpleName().isEmpty() || isSchema(schemaName, beanClz.getClassLoader()) == false)
+            schemaName = foundSchemaName(beanClz.getName());
+        if (schemaName == null)
+            return null;
+
+        try {
+            Class<?> schemaClz = Class.forName(schemaName, true, beanClz.getClassLoader());
+            MethodHandle constructor = MethodHandles.publicLookup()
+                    .findConstructor(schemaClz, MethodType.methodType(void.class));
+            return (BeanSchema) constructor.invoke();
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new IllegalStateException("Cannot instantiate schema: " + schemaName, ex);
+        }
+    }
+
+    private static boolean isSchema(String schemaName, ClassLoader loader) {
+        try {
+            Class<?> schemaClz = Class.forName(schemaName, false, loader);
+            return BeanSchema.class.isAssignableFrom(schemaClz) && Modifier.isAbstract(schemaClz.getModifiers()) == false;
+        } catch (ClassNotFoundException ex) {
+            return false;
+        }
+    }
+
+    private static String foundSchemaName(String beanName) {
+        String schemaName = FOUND_MAP.get(beanName);
+        if (schemaName == null && readIndex())
+            schemaName = FOUND_MAP.get(beanName);
+        if (schemaName == null && scanClasspath())
+            schemaName = FOUND_MAP.get(beanName);
+        return schemaName;
+    }
+
+    /**
+     * schema classes listed by {@link SchemaIndexProcessor}, read once
+     *
+     * @return false if the index was read before
+     */
+    private static synchronized boolean readIndex() {
+        if (indexRead)
+            return false;
+        indexRead = true;
+        List<String> indexedList = SchemaIndex.read(contextLoader());
+        if (indexedList != null) {
+            indexFound = true;
+            indexedList.forEach(BeanSchema::found);
+        }
+        return true;
+    }
+
+    /**
+     * Full classpath scan, once, for schemas neither following the naming convention nor indexed
+     *
+     * @return false if the classpath was scanned before
+     */
+    private static synchronized boolean scanClasspath() {
+        if (scanned)
+            return false;
+        scanned = true;
+        for (Class<?> schemaClz : ClzUtil.findSubClzList(BeanSchema.class)) {
+            if (Modifier.isAbstract(schemaClz.getModifiers()) == false)
+                found(schemaClz.getName());
+        }
+        return true;
+    }
+
+    // pkg.$Bean is the schema of pkg.Bean
+    private static void found(String schemaName) {
+        int dot = schemaName.lastIndexOf('.');
+        FOUND_MAP.putIfAbsent(schemaName.substring(0, dot + 1) + schemaName.substring(dot + 2), schemaName);
+    }
+
+    private static ClassLoader contextLoader() {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        return loader != null ? loader : BeanSchema.class.getClassLoader();
+    }
+
     protected static final <T extends DataBean> ObjViolation newViolation(Class<T> beanClz) {
 
         return new ObjViolation("SCHEMA::" + beanClz.getSimpleName());
@@ -111,6 +234,469 @@ public abstract class BeanSchema<T extends DataBean> {
         return new SchemaField<>(name$, getter$, resolverIF, required$);
     }
 
+    public static final <D extends DataBean, VAL> SchemaField<D, VAL>
+    plainField(String name$, Function<D, VAL> getter$, BiConsumer<D, VAL> setter$, Class<VAL> typeClz$, boolean required$) {
+        TypeResolver resolverIF = TypeResolverFactory.plain(typeClz$);
+        return new SchemaField<>(name$, getter$, setter$, resolverIF, required$);
+    }
+
+    public static final <D extends DataBean, VAL> SchemaField<D, List<VAL>>
+    plainListField(String name$, Function<D, List<VAL>> getter$, BiConsumer<D, List<VAL>> setter$, Class<VAL> typeClz$, boolean required$) {
+        TypeResolver resolverIF = TypeResolverFactory.plainDataList(typeClz$);
+        return new SchemaField<>(name$, getter$, setter$, resolverIF, required$);
+    }
+
+    public static final <D extends DataBean, VAL extends DataBean> SchemaField<D, VAL>
+    beanField(String name$, Function<D, VAL> getter$, BiConsumer<D, VAL> setter$, Class<VAL> typeClz$, boolean required$) {
+        TypeResolver resolverIF = TypeResolverFactory.beanType(typeClz$);
+        return new SchemaField<>(name$, getter$, setter$, resolverIF, required$);
+    }
+
+    public static final <D extends DataBean, VAL extends DataBean> SchemaField<D, List<VAL>>
+    beanListField(String name$, Function<D, List<VAL>> getter$, BiConsumer<D, List<VAL>> setter$, Class<VAL> typeClz$, boolean required$) {
+        TypeResolver resolverIF = TypeResolverFactory.beanList(typeClz$);
+        return new SchemaField<>(name$, getter$, setter$, resolverIF, required$);
+    }
+
+    public static final <D extends DataBean, VAL extends Enum<VAL>> SchemaField<D, VAL>
+    enumField(String name$, Function<D, VAL> getter$, BiConsumer<D, VAL> setter$, Class<VAL> enumType$, boolean required$) {
+        TypeResolver resolverIF = TypeResolverFactory.enumType(enumType$);
+        return new SchemaField<>(name$, getter$, setter$, resolverIF, required$);
+    }
+
+    private volatile Layout<T> layout;
+
+    private Layout<T> layout() {
+        Layout<T> current = layout;
+        if (current == null) {
+            // racing threads compute equal layouts, last write wins
+            current = new Layout<>(beanClz(), declaredFields());
+            layout = current;
+        }
+        return current;
+    }
+
+    /**
+     * fields of this schema in declaration order
+     */
+    public final List<SchemaField<T, ?>> fields() {
+        List fieldList = Arrays.asList(layout().fields);
+        return Collections.unmodifiableList(fieldList);
+    }
+
+    /**
+     * Collects the public static {@link SchemaField} constants of the schema class in declaration order. The order is
+     * the ordinal of a field in the packed format and its fingerprint, so it is not taken from reflection, which
+     * gives fields in no particular order: the constants are ordered as created, and static initializers run in
+     * textual order. Generated schemas may override it to list the fields explicitly.
+     */
+    protected List<SchemaField<T, ?>> declaredFields() {
+        List<SchemaField<T, ?>> fieldList = new ArrayList<>();
+        for (Field field : getClass().getDeclaredFields()) {
+            int mod = field.getModifiers();
+            if (Modifier.isStatic(mod) && Modifier.isPublic(mod) && SchemaField.class.isAssignableFrom(field.getType())) {
+                try {
+                    fieldList.add((SchemaField<T, ?>) field.get(null));
+                } catch (IllegalAccessException ex) {
+                    throw new IllegalStateException("Inaccessible schema field: " + field, ex);
+                }
+            }
+        }
+        fieldList.sort(Comparator.comparingLong(field -> field.creationSeq));
+        return fieldList;
+    }
+
+    /**
+     * new empty bean for the streaming decoder, generated schemas may override it with a plain constructor call
+     */
+    protected T newBean() {
+        return layout().newBean();
+    }
+
+    private Class<T> beanClz() {
+        ParameterizedType superType = (ParameterizedType) getClass().getGenericSuperclass();
+        return (Class<T>) superType.getActualTypeArguments()[0];
+    }
+
+    /**
+     * Decodes the object at the current {@code START_OBJECT} token of {@code parser} straight into a bean, without
+     * building an intermediate {@link JsonObject}. The result, violations included, is the same as of
+     * {@link #apply(JsonObject)}. The parser is left at the matching {@code END_OBJECT}.
+     * Falls back to the tree decoding if a field cannot be set, see {@link SchemaField#mutator}.
+     */
+    public Either<Violation, T> readJson(JsonParser parser) throws IOException {
+        ViolationSink sink = new ViolationSink();
+        return sink.either(readJson(parser, sink));
+    }
+
+    /**
+     * Sink counterpart of {@link #readJson(JsonParser)}, returns the bean or reports its {@link ObjViolation} to
+     * {@code sink$} and returns null. A valid bean allocates nothing but the bean and its field values, the
+     * violations are collected only from the first invalid field on. Once the budget of {@code sink$} is exhausted
+     * the remaining fields are skipped unread.
+     */
+    public T readJson(JsonParser parser, ViolationSink sink$) throws IOException {
+        Layout<T> layout = layout();
+        if (layout.streamable == false)
+            return apply((JsonObject) JacksonCodec.readValue(parser), sink$);
+
+        SchemaField[] fields = layout.fields;
+        // fields present in the input, an array only past 64 fields
+        long seenWord = 0;
+        long[] seen = fields.length > 64 ? new long[(fields.length + 63) >>> 6] : null;
+        Violation[] violations = null;
+        T bean = newBean();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            Integer ordinal = layout.ordinalMap.get(parser.getCurrentName());
+            parser.nextToken();
+            if (ordinal == null || layout.mutators[ordinal] == null) {
+                parser.skipChildren();
+                continue;
+            }
+
+            int idx = ordinal;
+            SchemaField field = fields[idx];
+            if (seen == null)
+                seenWord |= 1L << idx;
+            else
+                seen[idx >>> 6] |= 1L << idx;
+            Object val = field.fromJson(parser, sink$);
+            Violation fieldViolation = sink$.take();
+            if (fieldViolation != null) {
+                if (violations == null)
+                    violations = new Violation[fields.length];
+                violations[idx] = fieldViolation;
+                if (sink$.isExhausted()) {
+                    skipFields(parser);
+                    return collect(layout, bean, violations, sink$);
+                }
+            } else {
+                // a repeated key overrides the earlier value, as in the tree
+                if (violations != null)
+                    violations[idx] = null;
+                layout.mutators[idx].accept(bean, val);
+            }
+        }
+
+        for (int idx = 0; idx < fields.length; idx++) {
+            long seenBits = seen == null ? seenWord : seen[idx >>> 6];
+            if ((seenBits & (1L << idx)) != 0 || layout.mutators[idx] == null)
+                continue;
+            if (fields[idx].isRequired()) {
+                if (violations == null)
+                    violations = new Violation[fields.length];
+                violations[idx] = missingRequired(sink$);
+                if (sink$.isExhausted())
+                    break;
+            } else {
+                layout.mutators[idx].accept(bean, null);
+            }
+        }
+
+        return collect(layout, bean, violations, sink$);
+    }
+
+    // the remaining fields of the object, the parser is left at its END_OBJECT
+    private static void skipFields(JsonParser parser) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            parser.nextToken();
+            parser.skipChildren();
+        }
+    }
+
+    // a missing required field, it counts against the budget of sink$
+    private static Violation missingRequired(ViolationSink sink$) {
+        sink$.report(LogicalViolations.notNull());
+        return sink$.take();
+    }
+
+    /**
+     * Sink counterpart of {@link #apply(JsonObject)}, with the result contract of
+     * {@link #readJson(JsonParser, ViolationSink)}. Decodes field by field into a new bean, falls back to
+     * {@link #apply(JsonObject)} if a field cannot be set, see {@link SchemaField#mutator}.
+     */
+    public T apply(JsonObject reqObj$, ViolationSink sink$) {
+        Layout<T> layout = layout();
+        if (layout.streamable == false) {
+            Either<Violation, T> either = apply(reqObj$);
+            return either.isLeft() ? sink$.report(either.left()) : either.right();
+        }
+
+        SchemaField[] fields = layout.fields;
+        Violation[] violations = null;
+        T bean = newBean();
+        for (int idx = 0; idx < fields.length; idx++) {
+            SchemaField field = fields[idx];
+            if (layout.mutators[idx] == null)
+                continue;
+            Object val = field.fromJson(reqObj$, sink$);
+            Violation fieldViolation = sink$.take();
+            if (fieldViolation != null) {
+                if (violations == null)
+                    violations = new Violation[fields.length];
+                violations[idx] = fieldViolation;
+                if (sink$.isExhausted())
+                    break;
+            } else {
+                layout.mutators[idx].accept(bean, val);
+            }
+        }
+
+        return collect(layout, bean, violations, sink$);
+    }
+
+    // bean, or the violation of its fields reported to sink$
+    private T collect(Layout<T> layout, T bean, Violation[] violations, ViolationSink sink$) {
+        if (violations != null) {
+            ObjViolation violation = newViolation(layout.beanClz);
+            for (int idx = 0; idx < violations.length; idx++) {
+                if (violations[idx] != null)
+                    violation.add(layout.fields[idx], violations[idx]);
+            }
+            if (violation.hasRequirement())
+                return sink$.forward(violation);
+        }
+
+        return bean;
+    }
+
+    /**
+     * Encodes {@code dataBean$} field by field straight to {@code generator}, no intermediate {@link JsonObject} is
+     * built. The output is the same as encoding {@link #apply(DataBean)}.
+     */
+    public void writeJson(T dataBean$, JsonGenerator generator) throws IOException {
+        SchemaField[] fields = layout().fields;
+        generator.writeStartObject(dataBean$);
+        for (int idx = 0; idx < fields.length; idx++)
+            fields[idx].writeJson(dataBean$, generator);
+        generator.writeEndObject();
+    }
+
+    public Either<Violation, T> fromByteData(byte[] byteData$) {
+        return fromByteData(byteData$, 0, byteData$.length);
+    }
+
+    /**
+     * decode a JSON object from the given slice of {@code byteData$} with {@link Json#CODEC}, the default codec
+     * streams it through {@link #readJson(JsonParser)}
+     */
+    public Either<Violation, T> fromByteData(byte[] byteData$, int offset$, int len$) {
+        return Json.CODEC.decodeBean(this, byteData$, offset$, len$);
+    }
+
+    /**
+     * layout of the packed encoding of this schema, its fingerprint heads every packed bean
+     */
+    public final PackedLayout packedLayout() {
+        return layout().packedLayout;
+    }
+
+    /**
+     * Encodes {@code dataBean$} in the packed format: the fingerprint of {@link #packedLayout()}, a bitmap of the
+     * non-null fields and their values by schema position, without names. A reader of another version of the bean
+     * maps the fields by name through the writer layout, see {@link PackedLayout}.
+     */
+    public byte[] toPacked(T dataBean$) {
+        PackedWriter out = new PackedWriter();
+        writePacked(dataBean$, out);
+        return out.toByteArray();
+    }
+
+    public void writePacked(T dataBean$, PackedWriter out) {
+        out.writeLong(layout().packedLayout.fingerprint);
+        writePackedBody(dataBean$, out);
+    }
+
+    /**
+     * {@link #writePacked(DataBean, PackedWriter)} without the fingerprint, for runs of beans sharing one
+     */
+    public void writePackedBody(T dataBean$, PackedWriter out) {
+        SchemaField[] fields = layout().fields;
+        long[] present = new long[(fields.length + 63) >>> 6];
+        for (int idx = 0; idx < fields.length; idx++) {
+            if (fields[idx].accessor.apply(dataBean$) != null)
+                present[idx >>> 6] |= 1L << idx;
+        }
+        out.writeBitmap(present, fields.length);
+        for (int idx = 0; idx < fields.length; idx++) {
+            if ((present[idx >>> 6] & (1L << idx)) != 0)
+                fields[idx].typeResolver.writePacked(fields[idx].accessor.apply(dataBean$), out);
+        }
+    }
+
+    public Either<Violation, T> fromPacked(byte[] byteData$) {
+        return fromPacked(byteData$, 0, byteData$.length);
+    }
+
+    /**
+     * decode the output of {@link #toPacked(DataBean)}, violations are the same as of {@link #readJson(JsonParser)}
+     *
+     * @throws DecodeException if the data is truncated or its writer layout is unknown
+     */
+    public Either<Violation, T> fromPacked(byte[] byteData$, int offset$, int len$) {
+        PackedReader in = new PackedReader(byteData$, offset$, len$);
+        ViolationSink sink = new ViolationSink();
+        T bean = readPacked(in, sink);
+        if (in.remaining() != 0)
+            throw new DecodeException("Unexpected trailing bytes");
+        return sink.either(bean);
+    }
+
+    public Either<Violation, T> readPacked(PackedReader in) {
+        return readPackedBody(in.readLong(), in);
+    }
+
+    /**
+     * sink counterpart of {@link #readPacked(PackedReader)}, see {@link #readJson(JsonParser, ViolationSink)}
+     */
+    public T readPacked(PackedReader in, ViolationSink sink$) {
+        return readPackedBody(in.readLong(), in, sink$);
+    }
+
+    /**
+     * Reads a bean body written with the layout of {@code writerFingerprint$}, all of its bytes are consumed also when
+     * a violation is returned. Fields the reader does not have, or has with another packed type, are skipped; fields
+     * the writer did not have keep the value of a new bean, a required one must not be null there.
+     * Falls back to {@link #apply(JsonObject)} if a field cannot be set, see {@link SchemaField#mutator}.
+     */
+    public Either<Violation, T> readPackedBody(long writerFingerprint$, PackedReader in) {
+        ViolationSink sink = new ViolationSink();
+        return sink.either(readPackedBody(writerFingerprint$, in, sink));
+    }
+
+    /**
+     * sink counterpart of {@link #readPackedBody(long, PackedReader)}, see {@link #readJson(JsonParser, ViolationSink)}
+     */
+    public T readPackedBody(long writerFingerprint$, PackedReader in, ViolationSink sink$) {
+        Layout<T> layout = layout();
+        PackedPlan plan = layout.planFor(writerFingerprint$);
+        SchemaField[] fields = layout.fields;
+        String[] writerTypes = plan.writer.types;
+
+        // an array only past 64 fields
+        long[] present = writerTypes.length > 64 ? in.readBitmap(writerTypes.length) : null;
+        long presentWord = present == null ? in.readBitmapWord(writerTypes.length) : 0;
+        Violation[] violations = null;
+        T bean = layout.streamable ? newBean() : null;
+        JsonObject reqObj = layout.streamable ? null : new JsonObject();
+        // with the budget of sink$ used up the remaining values are skipped
+        boolean exhausted = false;
+
+        for (int writerIdx = 0; writerIdx < writerTypes.length; writerIdx++) {
+            long presentBits = present == null ? presentWord : present[writerIdx >>> 6];
+            boolean isPresent = (presentBits & (1L << writerIdx)) != 0;
+            int idx = plan.readerIdx[writerIdx];
+            // a computed field is not read back, as in the tree decoding
+            if (idx < 0 || exhausted || (bean != null && layout.mutators[idx] == null)) {
+                if (isPresent)
+                    PackedLayout.skipValue(writerTypes[writerIdx], in);
+                continue;
+            }
+
+            SchemaField field = fields[idx];
+            Object val = null;
+            if (isPresent) {
+                val = field.typeResolver.readPacked(in, sink$);
+                Violation fieldViolation = sink$.take();
+                if (fieldViolation != null) {
+                    if (violations == null)
+                        violations = new Violation[fields.length];
+                    violations[idx] = fieldViolation;
+                    exhausted = sink$.isExhausted();
+                    continue;
+                }
+            } else if (field.isRequired()) {
+                if (violations == null)
+                    violations = new Violation[fields.length];
+                violations[idx] = missingRequired(sink$);
+                exhausted = sink$.isExhausted();
+                continue;
+            }
+
+            if (bean != null)
+                layout.mutators[idx].accept(bean, val);
+            else if (reqObj != null && val != null)
+                reqObj.put(field.name, field.typeResolver.toJsonVal(val));
+        }
+
+        if (bean != null && exhausted == false) {
+            for (int idx : plan.addedIdx) {
+                if (layout.mutators[idx] != null && fields[idx].isRequired() && fields[idx].accessor.apply(bean) == null) {
+                    if (violations == null)
+                        violations = new Violation[fields.length];
+                    violations[idx] = missingRequired(sink$);
+                    if (sink$.isExhausted())
+                        break;
+                }
+            }
+        }
+
+        if (bean == null && violations == null)
+            return apply(reqObj, sink$);
+        return collect(layout, bean, violations, sink$);
+    }
+
+    /**
+     * skips a bean body written with the layout of {@code writerFingerprint$} without decoding it
+     */
+    public void skipPackedBody(long writerFingerprint$, PackedReader in) {
+        layout().planFor(writerFingerprint$).writer.skipBody(in);
+    }
+
+    /**
+     * Loads every schema listed by the schema index, or found by the classpath scan without one, and prepares its
+     * field layout, so the first use of a bean pays for neither. Optional, schemas are otherwise loaded on first use.
+     *
+     * @return the number of schemas loaded
+     */
+    public static int preloadAll() {
+        readIndex();
+        if (indexFound == false)
+            scanClasspath();
+        int count = 0;
+        for (String beanName : FOUND_MAP.keySet()) {
+            try {
+                of(beanName).layout();
+                count++;
+            } catch (IllegalStateException ex) {
+                Logger.getLogger(BeanSchema.class.getName()).log(Level.FINE, "No schema for " + beanName, ex);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Preloads all schemas once, so the fingerprints of their packed layouts resolve
+     *
+     * @return false if the layouts were registered before
+     */
+    static boolean registerPackedLayouts() {
+        if (layoutsRegistered)
+            return false;
+        synchronized (BeanSchema.class) {
+            if (layoutsRegistered)
+                return false;
+            preloadAll();
+            layoutsRegistered = true;
+        }
+        return true;
+    }
+
+    /**
+     * encode {@code dataBean$} in the binary format of {@link JsonCodecs#binary()}
+     */
+    public byte[] toBinary(T dataBean$) {
+        return JsonCodecs.binary().encodeToBytes(dataBean$, false);
+    }
+
+    /**
+     * decode the output of {@link #toBinary(DataBean)}, field by field as {@link #readJson(JsonParser)} does
+     */
+    public Either<Violation, T> fromBinary(byte[] byteData$) {
+        return JsonCodecs.binary().decodeBean(this, byteData$, 0, byteData$.length);
+    }
+
 
 
     public abstract JsonObject apply(T dataBean$);
@@ -119,6 +705,105 @@ public abstract class BeanSchema<T extends DataBean> {
 
     public abstract DataDiff<T> diff(T from$, T to$);
 
+    private static final class Layout<T extends DataBean> {
+        private final Class<T> beanClz;
+        private final SchemaField[] fields;
+        private final Map<String, Integer> ordinalMap;
+        // null for a computed field
+        private final BiConsumer[] mutators;
+        private final boolean streamable;
+        private final PackedLayout packedLayout;
+        private final PackedPlan identityPlan;
+        // by writer fingerprint
+        private final Map<Long, PackedPlan> planMap;
+        private MethodHandle constructor;
 
-}
+        private Layout(Class<T> beanClz$, List<SchemaField<T, ?>> fieldList$) {
+            beanClz = beanClz$;
+            fields = fieldList$.toArray(new SchemaField[0]);
+            ordinalMap = new HashMap<>();
+            mutators = new BiConsumer[fields.length];
+            // a bean field the library cannot set leaves the schema to apply(JsonObject)
+            boolean settable = fields.length > 0;
+            for (int idx = 0; idx < fields.length; idx++) {
+                ordinalMap.put(fields[idx].name, idx);
+                mutators[idx] = fields[idx].mutator;
+                if (mutators[idx] != null)
+                    continue;
+                try {
+                    mutators[idx] = FieldMutators.derive(beanClz$, fields[idx].name);
+                } catch (IllegalAccessException | RuntimeException ex) {
+                    Logger.getLogger(BeanSchema.class.getName()).log(Level.FINE,
+                            "No mutator for " + fields[idx].name + " of " + beanClz$.getName(), ex);
+                    settable = false;
+                }
+            }
+            streamable = settable;
+            packedLayout = PackedLayout.of(fields);
+            PackedLayout.register(packedLayout);
+            identityPlan = new PackedPlan(packedLayout, this);
+            planMap = new ConcurrentHashMap<>();
+        }
+
+        private PackedPlan planFor(long writerFingerprint$) {
+            if (writerFingerprint$ == packedLayout.fingerprint)
+                return identityPlan;
+            PackedPlan plan = planMap.get(writerFingerprint$);
+            if (plan == null) {
+                // racing threads compute equal plans
+                plan = new PackedPlan(PackedLayout.find(writerFingerprint$), this);
+                planMap.put(writerFingerprint$, plan);
+            }
+            return plan;
+        }
 
+        private T newBean() {
+            try {
+                if (constructor == null) {
+                    Constructor<T> noArg = beanClz.getDeclaredConstructor();
+                    noArg.setAccessible(true);
+                    constructor = MethodHandles.lookup().unreflectConstructor(noArg);
+                }
+                return (T) constructor.invoke();
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new IllegalStateException("Cannot instantiate DataBean: " + beanClz.getName(), ex);
+            }
+        }
+    }
+
+    /**
+     * maps the fields of a writer layout onto the reader schema by name, computed once per writer fingerprint
+     */
+    private static final class PackedPlan {
+        private final PackedLayout writer;
+        // reader position of each writer field, -1 to skip it
+        private final int[] readerIdx;
+        // reader positions the writer has no value for
+        private final int[] addedIdx;
+
+        private PackedPlan(PackedLayout writer$, Layout<?> reader$) {
+            writer = writer$;
+            readerIdx = new int[writer$.size()];
+            boolean[] mapped = new boolean[reader$.fields.length];
+            int mappedCount = 0;
+            for (int writerIdx = 0; writerIdx < readerIdx.length; writerIdx++) {
+                Integer idx = reader$.ordinalMap.get(writer$.names[writerIdx]);
+                if (idx != null && mapped[idx] == false
+                        && writer$.types[writerIdx].equals(reader$.packedLayout.types[idx])) {
+                    readerIdx[writerIdx] = idx;
+                    mapped[idx] = true;
+                    mappedCount++;
+                } else {
+                    readerIdx[writerIdx] = -1;
+                }
+            }
+            addedIdx = new int[mapped.length - mappedCount];
+            for (int idx = 0, pos = 0; idx < mapped.length; idx++) {
+                if (mapped[idx] == false)
+                    addedIdx[pos++] = idx;
+            }
+        }
+    }
+}
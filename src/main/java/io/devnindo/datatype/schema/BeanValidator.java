@@ -21,9 +21,10 @@ import io.devnindo.datatype.util.Either;
 import io.devnindo.datatype.validation.ObjViolation;
 import io.devnindo.datatype.validation.Validator;
 import io.devnindo.datatype.validation.Violation;
+import io.devnindo.datatype.validation.ViolationSink;
 import io.devnindo.datatype.validation.violations.LogicalViolations;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Consumer;
 
@@ -38,7 +39,8 @@ public final class BeanValidator<D extends DataBean>
     protected BeanValidator(String constraintName$, Class<D> beanClz$) {
         constraintName = constraintName$;
         beanClz = beanClz$;
-        condition = new HashMap<>();
+        // checked in the order configured
+        condition = new LinkedHashMap<>();
 
     }
 
@@ -52,33 +54,47 @@ public final class BeanValidator<D extends DataBean>
 
     @Override
     public Either<Violation, D> apply(D beanObj$) {
+        ViolationSink sink = new ViolationSink();
+        return sink.either(apply(beanObj$, sink));
+    }
 
-        ObjViolation violation = new ObjViolation(constraintName);
-        condition.forEach((field, constraint) -> {
-
-            Object data = field.accessor.apply(beanObj$);
-            Either<Violation, Object> either = constraint.apply(data);
-            violation.check(field, either);
-        });
-
-        if (violation.hasRequirement())
-            return Either.left(violation);
-        else return Either.right(beanObj$);
-
+    /**
+     * Sink counterpart of {@link #apply(DataBean)}, returns the bean or reports the violation to {@code sink$} and
+     * returns null. Constraints are checked in the order configured, until the budget of {@code sink$} is exhausted.
+     */
+    public D apply(D beanObj$, ViolationSink sink$) {
+        ObjViolation violation = null;
+        for (Map.Entry<SchemaField<D, ?>, Constraint> entry : condition.entrySet()) {
+            Object data = entry.getKey().accessor.apply(beanObj$);
+            Either<Violation, Object> either = entry.getValue().apply(data);
+            if (either.isRight())
+                continue;
+
+            if (violation == null)
+                violation = new ObjViolation(constraintName);
+            sink$.report(either.left());
+            violation.add(entry.getKey(), sink$.take());
+            if (sink$.isExhausted())
+                break;
+        }
 
+        return violation != null ? sink$.forward(violation) : beanObj$;
     }
 
     public Either<Violation, D> apply(JsonObject dataObj$) {
+        ViolationSink sink = new ViolationSink();
+        return sink.either(apply(dataObj$, sink));
+    }
 
+    /**
+     * decodes then validates {@code dataObj$}, a decode violation is reported as is, see {@link #apply(DataBean, ViolationSink)}
+     */
+    public D apply(JsonObject dataObj$, ViolationSink sink$) {
+        D dataBean = BeanSchema.<D>forClass(beanClz).apply(dataObj$, sink$);
+        if (dataBean == null)
+            return null;
 
-        Either<Violation, D> dataBeanEither = BeanSchema.of(beanClz).apply(dataObj$);
-
-        if (dataBeanEither.isLeft())
-            return Either.left(dataBeanEither.left());
-
-        D dataBean = dataBeanEither.right();
-        return apply(dataBean);
-
+        return apply(dataBean, sink$);
     }
 
     public <F> Constraint<F> required(SchemaField<D, F> field$) {
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.schema;
+
+import io.devnindo.datatype.json.JsonArray;
+import io.devnindo.datatype.json.JsonObject;
+import io.devnindo.datatype.util.Either;
+import io.devnindo.datatype.validation.Violation;
+import io.devnindo.datatype.validation.ViolationSink;
+import io.devnindo.datatype.validation.violations.TypeViolations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Decodes a batch of json objects into beans across a {@link ForkJoinPool}, in chunks of {@code chunkSize} items.
+ * The result keeps the order of the batch. An invalid item is reported as {@code idx-<n>} in the ctx of a
+ * {@code BEAN_LIST_TYPE} violation, as by {@link TypeViolations#validBeanItems(Violation[])}, every invalid item of
+ * the batch is reported in index order. A non object item fails the batch as {@code PLAIN_DATA_LIST_TYPE}, as by the
+ * bean list resolver.
+ */
+public final class BulkDecoder<D extends DataBean> {
+    public static final int DEFAULT_CHUNK_SIZE = 512;
+
+    public final Class<D> beanClz;
+    private final BeanSchema<D> schema;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    public BulkDecoder(Class<D> beanClz$, ForkJoinPool pool$, int chunkSize$) {
+        if (chunkSize$ < 1)
+            throw new IllegalArgumentException("chunk size must be positive: " + chunkSize$);
+        beanClz = beanClz$;
+        schema = BeanSchema.forClass(beanClz$);
+        pool = pool$;
+        chunkSize = chunkSize$;
+    }
+
+    /**
+     * decoder on the common pool with the default chunk size
+     */
+    public static final <D extends DataBean> BulkDecoder<D> forClass(Class<D> beanClz$) {
+        return new BulkDecoder<>(beanClz$, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    public Either<Violation, List<D>> decode(JsonArray array$) {
+        return decode(array$.getList());
+    }
+
+    /**
+     * @param itemList$ items as {@link JsonObject} or as the {@link Map} backing one, not modified while decoding
+     */
+    public Either<Violation, List<D>> decode(List<?> itemList$) {
+        Object[] items = itemList$.toArray();
+        Object[] beans = new Object[items.length];
+        Violation[] violations = new Violation[items.length];
+        ChunkTask<D> task = new ChunkTask<>(schema, chunkSize, items, beans, violations, 0, items.length);
+        if (items.length <= chunkSize)
+            task.compute();
+        else
+            pool.invoke(task);
+
+        if (task.nonObjItem)
+            return Either.left(TypeViolations.plainDataList(JsonObject.class));
+        if (task.invalidItem == false)
+            return Either.right(beanList(beans));
+
+        return Either.left(TypeViolations.validBeanItems(violations));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<D> beanList(Object[] beans) {
+        return new ArrayList<>((List<D>) (List<?>) Arrays.asList(beans));
+    }
+
+    // each chunk writes its own slots of the shared arrays, joining publishes them
+    private static final class ChunkTask<D extends DataBean> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final BeanSchema<D> schema;
+        private final int chunkSize;
+        private final Object[] items;
+        private final Object[] beans;
+        private final Violation[] violations;
+        private final int from;
+        private final int to;
+        boolean nonObjItem;
+        boolean invalidItem;
+
+        ChunkTask(BeanSchema<D> schema$, int chunkSize$, Object[] items$, Object[] beans$, Violation[] violations$,
+                  int from$, int to$) {
+            schema = schema$;
+            chunkSize = chunkSize$;
+            items = items$;
+            beans = beans$;
+            violations = violations$;
+            from = from$;
+            to = to$;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                decodeChunk();
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            ChunkTask<D> left = new ChunkTask<>(schema, chunkSize, items, beans, violations, from, mid);
+            ChunkTask<D> right = new ChunkTask<>(schema, chunkSize, items, beans, violations, mid, to);
+            invokeAll(left, right);
+            nonObjItem = left.nonObjItem || right.nonObjItem;
+            invalidItem = left.invalidItem || right.invalidItem;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void decodeChunk() {
+            ViolationSink sink = new ViolationSink();
+            for (int idx = from; idx < to; idx++) {
+                Object item = items[idx];
+                if (item instanceof Map)
+                    item = new JsonObject((Map<String, Object>) item);
+                else if (item instanceof JsonObject == false) {
+                    nonObjItem = true;
+                    return;
+                }
+
+                D bean = schema.apply((JsonObject) item, sink);
+                if (bean == null) {
+                    violations[idx] = sink.take();
+                    invalidItem = true;
+                    sink.reset();
+                } else
+                    beans[idx] = bean;
+            }
+        }
+    }
+}
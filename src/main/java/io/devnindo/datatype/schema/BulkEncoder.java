@@ -0,0 +1,132 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.schema;
+
+import io.devnindo.datatype.json.EncodeException;
+import io.devnindo.datatype.json.Json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Encodes a bean list as one JSON array across a {@link ForkJoinPool}. Every chunk of {@code chunkSize} beans is
+ * encoded by {@link Json#CODEC} into its own buffer, the chunks are stitched in list order, so the output is the
+ * same bytes as {@code Json.CODEC.encodeToBytes(beanList, false)}.
+ */
+public final class BulkEncoder<D extends DataBean> {
+    public static final int DEFAULT_CHUNK_SIZE = 512;
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    public BulkEncoder(ForkJoinPool pool$, int chunkSize$) {
+        if (chunkSize$ < 1)
+            throw new IllegalArgumentException("chunk size must be positive: " + chunkSize$);
+        pool = pool$;
+        chunkSize = chunkSize$;
+    }
+
+    /**
+     * encoder on the common pool with the default chunk size
+     */
+    public static final <D extends DataBean> BulkEncoder<D> create() {
+        return new BulkEncoder<>(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    @SuppressWarnings("unchecked")
+    public byte[] encode(List<D> beanList$) throws EncodeException {
+        if (beanList$.size() <= chunkSize)
+            return Json.CODEC.encodeToBytes(beanList$, false);
+
+        int chunkCount = chunkCount(beanList$);
+        ForkJoinTask<byte[]>[] taskArr = new ForkJoinTask[chunkCount];
+        for (int idx = 0; idx < chunkCount; idx++) {
+            int chunkIdx = idx;
+            taskArr[idx] = pool.submit(() -> encodeChunk(beanList$, chunkIdx));
+        }
+        byte[][] chunkArr = new byte[chunkCount][];
+        int len = 1 + chunkCount;
+        try {
+            for (int idx = 0; idx < chunkCount; idx++) {
+                chunkArr[idx] = taskArr[idx].join();
+                len += chunkArr[idx].length - 2;
+            }
+        } catch (RuntimeException e) {
+            for (ForkJoinTask<byte[]> task : taskArr)
+                task.cancel(false);
+            throw e;
+        }
+
+        byte[] data = new byte[len];
+        int pos = 0;
+        for (int idx = 0; idx < chunkCount; idx++) {
+            data[pos++] = (byte) (idx == 0 ? '[' : ',');
+            System.arraycopy(chunkArr[idx], 1, data, pos, chunkArr[idx].length - 2);
+            pos += chunkArr[idx].length - 2;
+        }
+        data[pos] = ']';
+        return data;
+    }
+
+    /**
+     * encode to {@code out} in list order, the stream is flushed but not closed. At most two chunks per worker are
+     * encoded ahead of the one being written.
+     */
+    public void encodeTo(List<D> beanList$, OutputStream out) throws EncodeException {
+        if (beanList$.size() <= chunkSize) {
+            Json.CODEC.encodeTo(beanList$, out, false);
+            return;
+        }
+
+        int chunkCount = chunkCount(beanList$);
+        int window = Math.max(2, pool.getParallelism() * 2);
+        ArrayDeque<ForkJoinTask<byte[]>> inFlight = new ArrayDeque<>(window);
+        int next = 0;
+        try {
+            for (int idx = 0; idx < chunkCount; idx++) {
+                for (; next < chunkCount && inFlight.size() < window; next++) {
+                    int chunkIdx = next;
+                    inFlight.add(pool.submit(() -> encodeChunk(beanList$, chunkIdx)));
+                }
+                byte[] chunk = inFlight.poll().join();
+                out.write(idx == 0 ? '[' : ',');
+                out.write(chunk, 1, chunk.length - 2);
+            }
+            out.write(']');
+            out.flush();
+        } catch (IOException e) {
+            throw new EncodeException(e.getMessage(), e);
+        } finally {
+            for (ForkJoinTask<byte[]> task : inFlight)
+                task.cancel(false);
+        }
+    }
+
+    private int chunkCount(List<D> beanList) {
+        return (beanList.size() + chunkSize - 1) / chunkSize;
+    }
+
+    // a chunk is encoded as an array of its own, its brackets are dropped when stitching
+    private byte[] encodeChunk(List<D> beanList, int chunkIdx) {
+        int from = chunkIdx * chunkSize;
+        int to = Math.min(beanList.size(), from + chunkSize);
+        return Json.CODEC.encodeToBytes(beanList.subList(from, to), false);
+    }
+}
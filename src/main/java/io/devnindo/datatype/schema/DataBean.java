@@ -15,9 +15,14 @@
  */
 package io.devnindo.datatype.schema;
 
+import io.devnindo.datatype.json.Json;
+import io.devnindo.datatype.json.JsonCodecs;
 import io.devnindo.datatype.json.Jsonable;
 import io.devnindo.datatype.json.JsonObject;
 
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.util.Objects;
 
 /**
@@ -30,10 +35,46 @@ public interface DataBean extends Jsonable {
 
     @Override
     public default JsonObject toJson() {
-        BeanSchema  schema = BeanSchema.of(this.getClass().getName());
+        BeanSchema  schema = BeanSchema.forClass(this.getClass());
         return schema.apply(this);
     }
 
+    /**
+     * Encode this bean as UTF-8 JSON bytes, same as {@code toJson().toByteData()}
+     * */
+    public default byte[] toByteData() {
+        return Json.CODEC.encodeToBytes(this, false);
+    }
+
+    /**
+     * Encode this bean in the binary format of {@link io.devnindo.datatype.json.JsonCodecs#binary()},
+     * see {@link BeanSchema#fromBinary(byte[])}
+     * */
+    public default byte[] toBinary() {
+        return JsonCodecs.binary().encodeToBytes(this, false);
+    }
+
+    /**
+     * Encode this bean as UTF-8 JSON into a heap or direct buffer, see {@link Json#writeTo(ByteBuffer)}
+     * */
+    public default void writeTo(ByteBuffer buf) {
+        Json.CODEC.encodeTo(this, buf, false);
+    }
+
+    /**
+     * Encode this bean as UTF-8 JSON into {@code out}, see {@link Json#writeTo(OutputStream)}
+     * */
+    public default void writeTo(OutputStream out) {
+        Json.CODEC.encodeTo(this, out, false);
+    }
+
+    /**
+     * Encode this bean as UTF-8 JSON into a blocking channel, see {@link Json#writeTo(WritableByteChannel)}
+     * */
+    public default void writeTo(WritableByteChannel channel) {
+        Json.CODEC.encodeTo(this, channel, false);
+    }
+
     /**
      * helps diff-and-merge two DataBean of same type T
      * @param from to put data from
@@ -53,7 +94,7 @@ public interface DataBean extends Jsonable {
     public static <T extends DataBean> DataDiff<T> diffMerge(T from,  T to)
     {
         Objects.requireNonNull(from);
-        BeanSchema<T> schema = BeanSchema.of(from.getClass().getName());
+        BeanSchema<T> schema = BeanSchema.forClass(from.getClass());
         return schema.diff(from,  to);
     }
 
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.schema;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+
+/**
+ * Derives the mutator of a {@link SchemaField} generated without one, from the bean as the generated
+ * {@link BeanSchema#apply(io.devnindo.datatype.json.JsonObject)} sets it: the field {@code address_list} goes through
+ * the setter {@code setAddressList} of the bean if there is one, otherwise into the bean field {@code addressList}.
+ */
+final class FieldMutators {
+    private static final MethodType GENERIC_SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private FieldMutators() {
+    }
+
+    /**
+     * @return the mutator, null for a computed field with neither bean field nor setter behind it
+     * @throws IllegalAccessException if the bean field or setter is not accessible, e.g. a final field
+     */
+    static BiConsumer derive(Class<?> beanClz$, String name$) throws IllegalAccessException {
+        String javaName = javaName(name$);
+        Field field = findField(beanClz$, javaName);
+        if (field == null && javaName.equals(name$) == false)
+            field = findField(beanClz$, name$);
+        Method setter = findSetter(beanClz$, "set" + Character.toUpperCase(javaName.charAt(0)) + javaName.substring(1), field);
+        if (field == null && setter == null)
+            return null;
+
+        MethodHandle handle;
+        if (setter != null) {
+            handle = MethodHandles.privateLookupIn(setter.getDeclaringClass(), MethodHandles.lookup()).unreflect(setter);
+        } else {
+            handle = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup()).unreflectSetter(field);
+        }
+        // the return value of a fluent setter is dropped
+        MethodHandle generic = handle.asType(GENERIC_SETTER);
+        return (bean, val) -> {
+            try {
+                generic.invokeExact(bean, val);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new IllegalStateException("Cannot set " + name$ + " of " + beanClz$.getName(), ex);
+            }
+        };
+    }
+
+    // address_list => addressList
+    private static String javaName(String name$) {
+        StringBuilder javaName = new StringBuilder(name$.length());
+        boolean upper = false;
+        for (int idx = 0; idx < name$.length(); idx++) {
+            char ch = name$.charAt(idx);
+            if (ch == '_' && javaName.length() > 0) {
+                upper = true;
+            } else {
+                javaName.append(upper ? Character.toUpperCase(ch) : ch);
+                upper = false;
+            }
+        }
+        return javaName.toString();
+    }
+
+    private static Field findField(Class<?> beanClz$, String javaName$) {
+        for (Class<?> clz = beanClz$; clz != null && clz != Object.class; clz = clz.getSuperclass()) {
+            for (Field field : clz.getDeclaredFields()) {
+                if (field.getName().equals(javaName$) && Modifier.isStatic(field.getModifiers()) == false)
+                    return field;
+            }
+        }
+        return null;
+    }
+
+    // a one argument instance method taking the type of the bean field, if known
+    private static Method findSetter(Class<?> beanClz$, String setterName$, Field field$) {
+        for (Class<?> clz = beanClz$; clz != null && clz != Object.class; clz = clz.getSuperclass()) {
+            for (Method method : clz.getDeclaredMethods()) {
+                if (method.getName().equals(setterName$) && method.getParameterCount() == 1
+                        && Modifier.isStatic(method.getModifiers()) == false && method.isBridge() == false
+                        && (field$ == null || method.getParameterTypes()[0].isAssignableFrom(field$.getType())))
+                    return method;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.schema;
+
+import io.devnindo.datatype.json.DecodeException;
+import io.devnindo.datatype.json.JsonArray;
+import io.devnindo.datatype.json.JsonObject;
+import io.devnindo.datatype.util.PackedReader;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Field layout of packed bean data, see {@link BeanSchema#toPacked(DataBean)}: field names, packed types and required
+ * flags in schema order. Every packed bean starts with the {@link #fingerprint} of the layout it was written with,
+ * a reader resolves it to the writer layout and maps the fields onto its own schema by name.
+ * <p>
+ * Layouts of the schemas on the classpath are known, layouts of older bean versions have to be {@link #register}ed,
+ * for example from the {@link #toJson()} stored along the data.
+ */
+public final class PackedLayout {
+    // CRC-64-AVRO, as the Avro schema fingerprint
+    private static final long FP_EMPTY = 0xc15d213aa4d7a795L;
+    private static final long[] FP_TABLE = new long[256];
+    private static final Map<Long, PackedLayout> LAYOUT_MAP = new ConcurrentHashMap<>();
+
+    static {
+        for (int idx = 0; idx < 256; idx++) {
+            long fp = idx;
+            for (int bit = 0; bit < 8; bit++)
+                fp = (fp >>> 1) ^ (FP_EMPTY & -(fp & 1L));
+            FP_TABLE[idx] = fp;
+        }
+    }
+
+    public final long fingerprint;
+    final String[] names;
+    final String[] types;
+    final boolean[] required;
+
+    private PackedLayout(String[] names$, String[] types$, boolean[] required$) {
+        names = names$;
+        types = types$;
+        required = required$;
+        fingerprint = fingerprint(canonicalForm());
+    }
+
+    static PackedLayout of(SchemaField[] fields$) {
+        String[] names = new String[fields$.length];
+        String[] types = new String[fields$.length];
+        boolean[] required = new boolean[fields$.length];
+        for (int idx = 0; idx < fields$.length; idx++) {
+            names[idx] = fields$[idx].name;
+            types[idx] = fields$[idx].typeResolver.packedType();
+            required[idx] = fields$[idx].isRequired();
+        }
+        return new PackedLayout(names, types, required);
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * {@code {"fields": [{"name": .., "type": .., "required": ..}, ..]}}, read back by {@link #fromJson(JsonObject)}
+     */
+    public JsonObject toJson() {
+        JsonArray fieldArr = new JsonArray();
+        for (int idx = 0; idx < names.length; idx++) {
+            fieldArr.add(new JsonObject()
+                    .put("name", names[idx])
+                    .put("type", types[idx])
+                    .put("required", required[idx]));
+        }
+        return new JsonObject().put("fields", fieldArr);
+    }
+
+    public static PackedLayout fromJson(JsonObject layoutJS$) {
+        JsonArray fieldArr = Objects.requireNonNull(layoutJS$.getJsonArray("fields"), "fields");
+        String[] names = new String[fieldArr.size()];
+        String[] types = new String[fieldArr.size()];
+        boolean[] required = new boolean[fieldArr.size()];
+        for (int idx = 0; idx < names.length; idx++) {
+            JsonObject fieldJS = fieldArr.getJsonObject(idx);
+            names[idx] = Objects.requireNonNull(fieldJS.getString("name"), "name");
+            types[idx] = Objects.requireNonNull(fieldJS.getString("type"), "type");
+            required[idx] = Boolean.TRUE.equals(fieldJS.getBoolean("required"));
+        }
+        return new PackedLayout(names, types, required);
+    }
+
+    /**
+     * make a writer layout known to the readers of this process, registering twice is harmless
+     */
+    public static void register(PackedLayout layout$) {
+        LAYOUT_MAP.putIfAbsent(layout$.fingerprint, layout$);
+    }
+
+    static PackedLayout find(long fingerprint$) {
+        PackedLayout layout = LAYOUT_MAP.get(fingerprint$);
+        // a nested bean may be of a schema no one has packed yet; after the one sweep a miss fails right away
+        if (layout == null && BeanSchema.registerPackedLayouts())
+            layout = LAYOUT_MAP.get(fingerprint$);
+        if (layout == null)
+            throw new DecodeException("Unknown packed layout " + Long.toHexString(fingerprint$) + ", register the writer layout");
+        return layout;
+    }
+
+    /**
+     * skip a bean body, the bitmap and the present values, written with this layout
+     */
+    void skipBody(PackedReader in) {
+        long[] present = in.readBitmap(names.length);
+        for (int idx = 0; idx < names.length; idx++) {
+            if ((present[idx >>> 6] & (1L << idx)) != 0)
+                skipValue(types[idx], in);
+        }
+    }
+
+    static void skipValue(String type, PackedReader in) {
+        switch (type) {
+            case "int":
+            case "long":
+            case "enum":
+                in.readUnsignedVarLong();
+                return;
+            case "double":
+                in.skip(8);
+                return;
+            case "boolean":
+                in.skip(1);
+                return;
+            case "instant":
+                in.readUnsignedVarLong();
+                in.readUnsignedVarInt();
+                return;
+            case "string":
+            case "binary":
+            case "cbor":
+                in.skipBytes();
+                return;
+            case "bean":
+                find(in.readLong()).skipBody(in);
+                return;
+            case "list<bean>":
+                int beanCount = in.readCount(0);
+                if (beanCount > 0) {
+                    PackedLayout layout = find(in.readLong());
+                    for (int idx = 0; idx < beanCount; idx++)
+                        layout.skipBody(in);
+                }
+                return;
+            default:
+                if (type.startsWith("list<") && type.endsWith(">")) {
+                    String itemType = type.substring(5, type.length() - 1);
+                    int size = in.readCount(0);
+                    long[] present = in.readBitmap(size);
+                    for (int idx = 0; idx < size; idx++) {
+                        if ((present[idx >>> 6] & (1L << idx)) != 0)
+                            skipValue(itemType, in);
+                    }
+                    return;
+                }
+                throw new DecodeException("Unknown packed type " + type);
+        }
+    }
+
+    // name:type, a trailing ! for required fields
+    private String canonicalForm() {
+        StringBuilder form = new StringBuilder();
+        for (int idx = 0; idx < names.length; idx++) {
+            form.append(names[idx]).append(':').append(types[idx]);
+            if (required[idx])
+                form.append('!');
+            form.append(';');
+        }
+        return form.toString();
+    }
+
+    private static long fingerprint(String form) {
+        long fp = FP_EMPTY;
+        for (byte b : form.getBytes(StandardCharsets.UTF_8))
+            fp = (fp >>> 8) ^ FP_TABLE[(int) (fp ^ b) & 0xff];
+        return fp;
+    }
+
+    @Override
+    public String toString() {
+        return Long.toHexString(fingerprint) + "{" + canonicalForm() + "}";
+    }
+}
@@ -15,12 +15,20 @@
  */
 package io.devnindo.datatype.schema;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
 import io.devnindo.datatype.json.JsonObject;
 import io.devnindo.datatype.schema.typeresolver.TypeResolver;
 import io.devnindo.datatype.util.Either;
 import io.devnindo.datatype.validation.Violation;
+import io.devnindo.datatype.validation.ViolationSink;
 import io.devnindo.datatype.validation.violations.LogicalViolations;
 
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -28,14 +36,37 @@ import java.util.function.Function;
 public class SchemaField<D extends DataBean, VAL> {
     public final String name;
     public final Function<D, VAL> accessor;
+    /**
+     * Sets the field on a bean, null for computed fields and for schemas generated without mutators. Without one the
+     * decoders derive it from the setter or the field of the bean; a computed field, with neither, is not decoded,
+     * as in the generated {@link BeanSchema#apply(JsonObject)}. A bean field the library cannot set, e.g. a final
+     * one, leaves the schema to decode through {@link BeanSchema#apply(JsonObject)}.
+     */
+    public final BiConsumer<D, VAL> mutator;
     public final TypeResolver<VAL> typeResolver;
     private final boolean required;
+    // name quoted and UTF-8 encoded once for the streaming encoder
+    private final SerializableString jsonName;
+    // order of creation, which is the textual order of the constants of a schema class
+    private static final AtomicLong CREATION_SEQUENCE = new AtomicLong();
+    final long creationSeq;
 
     public SchemaField(String name, Function<D, VAL> accessor, TypeResolver<VAL> typeResolver, boolean required) {
+        this(name, accessor, null, typeResolver, required);
+    }
+
+    public SchemaField(String name, Function<D, VAL> accessor, BiConsumer<D, VAL> mutator, TypeResolver<VAL> typeResolver, boolean required) {
         this.name = name;
         this.accessor = accessor;
+        this.mutator = mutator;
         this.typeResolver = typeResolver;
         this.required = required;
+        this.jsonName = new SerializedString(name);
+        this.creationSeq = CREATION_SEQUENCE.getAndIncrement();
+    }
+
+    public boolean isRequired() {
+        return required;
     }
 
     public Either<Violation, VAL> fromJson(JsonObject jsObj) {
@@ -49,6 +80,40 @@ public class SchemaField<D extends DataBean, VAL> {
         return typeResolver.evalJsonVal(val);
     }
 
+    /**
+     * sink counterpart of {@link #fromJson(JsonObject)}, see {@link TypeResolver#evalJsonVal(Object, ViolationSink)}
+     */
+    public VAL fromJson(JsonObject jsObj, ViolationSink sink) {
+        Object val = jsObj.getValue(name);
+        if (val == null)
+            return required ? sink.report(LogicalViolations.notNull()) : null;
+
+        return typeResolver.evalJsonVal(val, sink);
+    }
+
+    /**
+     * resolve the value at the current token of {@code parser}, the streaming counterpart of {@link #fromJson(JsonObject)}
+     */
+    public Either<Violation, VAL> fromJson(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            if (required)
+                return Either.left(LogicalViolations.notNull());
+            else return Either.right(null);
+        }
+
+        return typeResolver.readJson(parser);
+    }
+
+    /**
+     * sink counterpart of {@link #fromJson(JsonParser)}, see {@link TypeResolver#readJson(JsonParser, ViolationSink)}
+     */
+    public VAL fromJson(JsonParser parser, ViolationSink sink) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL)
+            return required ? sink.report(LogicalViolations.notNull()) : null;
+
+        return typeResolver.readJson(parser, sink);
+    }
+
     public Object toJson(D dataBean) {
         VAL val = accessor.apply(dataBean);
         if (val == null)
@@ -56,6 +121,18 @@ public class SchemaField<D extends DataBean, VAL> {
         return typeResolver.toJsonVal(val);
     }
 
+    /**
+     * write the field name and value to {@code generator}, the streaming counterpart of {@link #toJson(DataBean)}
+     */
+    public void writeJson(D dataBean, JsonGenerator generator) throws IOException {
+        VAL val = accessor.apply(dataBean);
+        generator.writeFieldName(jsonName);
+        if (val == null)
+            generator.writeNull();
+        else
+            typeResolver.writeJson(val, generator);
+    }
+
     public VAL diff(D from, D to, BiConsumer<String, Object> changeBiConsumer) {
         VAL fromVal = accessor.apply(from);
         VAL toVal = accessor.apply(to);
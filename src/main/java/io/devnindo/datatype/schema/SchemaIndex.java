@@ -0,0 +1,78 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.schema;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+
+/**
+ * Reads the schema index files {@link SchemaIndexProcessor} writes at compile time, so schemas are found without a
+ * classpath scan. Each line of {@value #INDEX_RESOURCE} holds the binary name of a schema class, {@code #} starts a
+ * comment.
+ */
+final class SchemaIndex {
+    static final String INDEX_RESOURCE = "META-INF/devnindo/schema.index";
+    /**
+     * {@code -Dio.devnindo.datatype.schema.index=false} ignores the index files and scans the classpath
+     */
+    static final String INDEX_PROPERTY = "io.devnindo.datatype.schema.index";
+
+    private SchemaIndex() {
+    }
+
+    /**
+     * @return schema class names of all index files visible to {@code loader$}, null if there is none or the index
+     * is disabled
+     */
+    static List<String> read(ClassLoader loader$) {
+        if ("false".equalsIgnoreCase(System.getProperty(INDEX_PROPERTY)))
+            return null;
+        try {
+            Enumeration<URL> indexUrls = loader$.getResources(INDEX_RESOURCE);
+            if (indexUrls.hasMoreElements() == false)
+                return null;
+            List<String> nameList = new ArrayList<>();
+            while (indexUrls.hasMoreElements())
+                readIndex(indexUrls.nextElement(), nameList);
+            return nameList;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot read " + INDEX_RESOURCE, ex);
+        }
+    }
+
+    private static void readIndex(URL indexUrl, List<String> nameList) throws IOException {
+        try (InputStream in = indexUrl.openStream();
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int comment = line.indexOf('#');
+                if (comment >= 0)
+                    line = line.substring(0, comment);
+                line = line.trim();
+                if (line.isEmpty() == false)
+                    nameList.add(line);
+            }
+        }
+    }
+}
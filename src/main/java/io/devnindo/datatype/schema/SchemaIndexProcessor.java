@@ -0,0 +1,93 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.schema;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Writes {@value SchemaIndex#INDEX_RESOURCE} listing the concrete {@link BeanSchema} classes of a compilation, so
+ * {@link BeanSchema} finds them at startup without scanning the classpath. Enable it on the module holding the
+ * generated schemas:
+ * <pre>
+ *     annotationProcessor 'io.devnindo.core:devnindo-datatype:$version:processor'
+ * </pre>
+ * Only the {@code processor} classifier jar registers it, the runtime jar leaves the compilation of its users alone.
+ */
+@SupportedAnnotationTypes("*")
+public class SchemaIndexProcessor extends AbstractProcessor {
+    private static final String SCHEMA_CLZ = "io.devnindo.datatype.schema.BeanSchema";
+
+    private final Set<String> schemaNames = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            if (schemaNames.isEmpty() == false)
+                writeIndex();
+            return false;
+        }
+
+        TypeElement schemaElement = processingEnv.getElementUtils().getTypeElement(SCHEMA_CLZ);
+        if (schemaElement == null)
+            return false;
+        Types types = processingEnv.getTypeUtils();
+        TypeMirror schemaType = types.erasure(schemaElement.asType());
+        for (Element element : roundEnv.getRootElements()) {
+            if (element.getKind() != ElementKind.CLASS || element.getModifiers().contains(Modifier.ABSTRACT))
+                continue;
+            if (types.isSubtype(types.erasure(element.asType()), schemaType))
+                schemaNames.add(processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString());
+        }
+        // other processors may see the same elements
+        return false;
+    }
+
+    private void writeIndex() {
+        try {
+            FileObject index = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", SchemaIndex.INDEX_RESOURCE);
+            try (Writer writer = index.openWriter()) {
+                writer.write("# generated by " + SchemaIndexProcessor.class.getName() + "\n");
+                for (String schemaName : schemaNames)
+                    writer.write(schemaName + "\n");
+            }
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Cannot write " + SchemaIndex.INDEX_RESOURCE + ": " + ex.getMessage());
+        }
+    }
+}
@@ -15,18 +15,25 @@
  */
 package io.devnindo.datatype.schema.typeresolver;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import io.devnindo.datatype.json.JsonObject;
 import io.devnindo.datatype.schema.BeanSchema;
 import io.devnindo.datatype.schema.DataBean;
 import io.devnindo.datatype.schema.DataDiff;
 import io.devnindo.datatype.util.Either;
+import io.devnindo.datatype.util.PackedReader;
+import io.devnindo.datatype.util.PackedWriter;
 import io.devnindo.datatype.validation.Violation;
+import io.devnindo.datatype.validation.ViolationSink;
 import io.devnindo.datatype.validation.violations.TypeViolations;
 
+import java.io.IOException;
 import java.util.function.Consumer;
 
 public class BeanResolver<D extends DataBean> implements TypeResolver<D> {
-    private final Class<D> beanType;
+    public final Class<D> beanType;
     private final Violation beanViolation;
 
     public BeanResolver(Class<D> beanType$) {
@@ -36,11 +43,34 @@ public class BeanResolver<D extends DataBean> implements TypeResolver<D> {
 
     @Override
     public Either<Violation, D> evalJsonVal(Object val) {
+        ViolationSink sink = new ViolationSink();
+        return sink.either(evalJsonVal(val, sink));
+    }
+
+    @Override
+    public D evalJsonVal(Object val, ViolationSink sink) {
         if (val instanceof JsonObject == false)
-            return Either.left(beanViolation);
-        JsonObject obj = (JsonObject) val;
+            return sink.report(beanViolation);
+
+        BeanSchema<D> schema = BeanSchema.forClass(beanType);
+        return schema.apply((JsonObject) val, sink);
+    }
+
+    @Override
+    public Either<Violation, D> readJson(JsonParser parser) throws IOException {
+        ViolationSink sink = new ViolationSink();
+        return sink.either(readJson(parser, sink));
+    }
+
+    @Override
+    public D readJson(JsonParser parser, ViolationSink sink) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return sink.report(beanViolation);
+        }
 
-        return obj.toBeanEither(beanType);
+        BeanSchema<D> schema = BeanSchema.forClass(beanType);
+        return schema.readJson(parser, sink);
     }
 
     @Override
@@ -48,6 +78,12 @@ public class BeanResolver<D extends DataBean> implements TypeResolver<D> {
         return d.toJson();
     }
 
+    @Override
+    public void writeJson(D d, JsonGenerator generator) throws IOException {
+        BeanSchema<D> schema = BeanSchema.forClass(d.getClass());
+        schema.writeJson(d, generator);
+    }
+
     @Override
     public D diff(D from, D to, Consumer changeConsumer) {
         if (from == null)
@@ -58,7 +94,7 @@ public class BeanResolver<D extends DataBean> implements TypeResolver<D> {
         }
 
         DataDiff<D> dataDiff = BeanSchema
-                .of(beanType)
+                .<D>forClass(beanType)
                 .diff(from, to);
 
         if (!dataDiff.delta.isEmpty())
@@ -66,5 +102,29 @@ public class BeanResolver<D extends DataBean> implements TypeResolver<D> {
 
         return dataDiff.merged;
     }
-}
 
+    @Override
+    public String packedType() {
+        return "bean";
+    }
+
+    /**
+     * both sides go by the schema of the declared {@code beanType}, a subclass bean is packed with its fields only
+     */
+    @Override
+    public void writePacked(D d, PackedWriter out) {
+        BeanSchema.forClass(beanType).writePacked(d, out);
+    }
+
+    @Override
+    public Either<Violation, D> readPacked(PackedReader in) {
+        BeanSchema<D> schema = BeanSchema.forClass(beanType);
+        return schema.readPacked(in);
+    }
+
+    @Override
+    public D readPacked(PackedReader in, ViolationSink sink) {
+        BeanSchema<D> schema = BeanSchema.forClass(beanType);
+        return schema.readPacked(in, sink);
+    }
+}
@@ -15,9 +15,17 @@
  */
 package io.devnindo.datatype.schema.typeresolver;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import io.devnindo.datatype.json.JsonCodecs;
+import io.devnindo.datatype.json.jackson.JacksonCodec;
 import io.devnindo.datatype.util.Either;
+import io.devnindo.datatype.util.PackedReader;
+import io.devnindo.datatype.util.PackedWriter;
 import io.devnindo.datatype.validation.Violation;
+import io.devnindo.datatype.validation.ViolationSink;
 
+import java.io.IOException;
 import java.util.function.Consumer;
 
 /**
@@ -26,9 +34,79 @@ import java.util.function.Consumer;
 public interface TypeResolver<T> {
     public Either<Violation, T> evalJsonVal(Object val);
 
+    /**
+     * Streaming counterpart of {@link #evalJsonVal(Object)}. The parser is at the first token of a non-null value
+     * and must be left at the last token of that value, also when a violation is returned.
+     * The default builds the value tree, resolvers override it to consume the tokens directly.
+     */
+    public default Either<Violation, T> readJson(JsonParser parser) throws IOException {
+        return evalJsonVal(JacksonCodec.readValue(parser));
+    }
+
+    /**
+     * Sink counterpart of {@link #evalJsonVal(Object)}, returns the value or reports the violation to {@code sink}
+     * and returns null. The default unwraps {@link #evalJsonVal(Object)}, resolvers override it to skip the
+     * {@link Either}.
+     */
+    public default T evalJsonVal(Object val, ViolationSink sink) {
+        return unwrap(evalJsonVal(val), sink);
+    }
+
+    /**
+     * Sink counterpart of {@link #readJson(JsonParser)}, with the parser contract of it and the result contract of
+     * {@link #evalJsonVal(Object, ViolationSink)}
+     */
+    public default T readJson(JsonParser parser, ViolationSink sink) throws IOException {
+        return unwrap(readJson(parser), sink);
+    }
+
     public Object toJsonVal(T t);
 
+    /**
+     * Streaming counterpart of {@link #toJsonVal(Object)}, writes a non-null {@code t} at the current position of
+     * {@code generator}. Output must match encoding the value of {@code toJsonVal}.
+     */
+    public default void writeJson(T t, JsonGenerator generator) throws IOException {
+        JacksonCodec.writeValue(toJsonVal(t), generator);
+    }
+
+    /**
+     * name of the {@link #writePacked} encoding in a {@link io.devnindo.datatype.schema.PackedLayout}, readers skip
+     * removed fields by it. A resolver overriding {@link #writePacked} names the packed type it writes.
+     */
+    public default String packedType() {
+        return "cbor";
+    }
+
+    /**
+     * Packed counterpart of {@link #writeJson(Object, JsonGenerator)}, see {@link io.devnindo.datatype.schema.BeanSchema#toPacked}.
+     * The default writes the binary encoding of {@code toJsonVal} as a byte string, resolvers of plain types write
+     * the value itself.
+     */
+    public default void writePacked(T t, PackedWriter out) {
+        out.writeBytes(JsonCodecs.binary().encodeToBytes(toJsonVal(t), false));
+    }
+
+    /**
+     * Packed counterpart of {@link #readJson(JsonParser)}, reads back a non-null value of {@link #writePacked}
+     */
+    public default Either<Violation, T> readPacked(PackedReader in) {
+        return evalJsonVal(JsonCodecs.binary().fromByteData(in.readBytes(), Object.class));
+    }
+
+    /**
+     * Sink counterpart of {@link #readPacked(PackedReader)}, with the result contract of
+     * {@link #evalJsonVal(Object, ViolationSink)}
+     */
+    public default T readPacked(PackedReader in, ViolationSink sink) {
+        return unwrap(readPacked(in), sink);
+    }
+
     public T diff(T from, T to, Consumer changeConsumer);
 
+    private static <T> T unwrap(Either<Violation, T> either, ViolationSink sink) {
+        if (either.isLeft())
+            return sink.report(either.left());
+        return either.right();
+    }
 }
-
@@ -22,28 +22,51 @@ import io.devnindo.datatype.schema.typeresolver.jsons.JsonArrayResolver;
 import io.devnindo.datatype.schema.typeresolver.jsons.JsonObjectResolver;
 import io.devnindo.datatype.schema.typeresolver.lists.BeanListResolver;
 import io.devnindo.datatype.schema.typeresolver.lists.DataListResolver;
+import io.devnindo.datatype.schema.typeresolver.lists.DoubleListResolver;
+import io.devnindo.datatype.schema.typeresolver.lists.IntListResolver;
+import io.devnindo.datatype.schema.typeresolver.lists.LongListResolver;
 import io.devnindo.datatype.schema.typeresolver.literals.*;
 
 import java.time.Instant;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 
+/**
+ * Registry of the resolvers used by schema fields. Schemas are initialized from whichever thread touches them first,
+ * lookups take no lock and return the same resolver instance on every call.
+ * <p>
+ * Enum and bean resolvers are kept per {@link Class}, so the same bean loaded by two class loaders gets two resolvers.
+ * Applications add resolvers for further plain types with {@link #register} and {@link #registerList} before the
+ * schemas using them are initialized.
+ * */
 public final class TypeResolverFactory {
     private static final Map<String, TypeResolver> plainMap;
     private static final Map<String, TypeResolver> plainListMap;
 
-    private static final Map<String, TypeResolver> enumMap;
-    private static final Map<String, TypeResolver> beanMap;
-    private static final Map<String, TypeResolver> beanListMap;
+    private static final ClassValue<TypeResolver> enumValue = new ClassValue<TypeResolver>() {
+        @Override
+        protected TypeResolver computeValue(Class<?> enumType) {
+            return new EnumResolver(enumType);
+        }
+    };
+    private static final ClassValue<TypeResolver> beanValue = new ClassValue<TypeResolver>() {
+        @Override
+        protected TypeResolver computeValue(Class<?> beanType) {
+            return new BeanResolver(beanType);
+        }
+    };
+    private static final ClassValue<TypeResolver> beanListValue = new ClassValue<TypeResolver>() {
+        @Override
+        protected TypeResolver computeValue(Class<?> beanType) {
+            return new BeanListResolver(beanType);
+        }
+    };
 
     static {
-        plainMap = new HashMap<>();
-        enumMap = new HashMap<>();
-        beanMap = new HashMap<>();
-        plainListMap = new HashMap<>();
-        beanListMap = new HashMap<>();
+        plainMap = new ConcurrentHashMap<>();
+        plainListMap = new ConcurrentHashMap<>();
 
         plainMap.put(Integer.class.getName(), new IntegerResolver());
         plainMap.put(Long.class.getName(), new LongResolver());
@@ -51,10 +74,13 @@ public final class TypeResolverFactory {
         plainMap.put(Double.class.getName(), new DoubleResolver());
         plainMap.put(Boolean.class.getName(), new BooleanResolver());
         plainMap.put(Instant.class.getName(), new InstantResolver());
+        plainMap.put(byte[].class.getName(), new BinaryResolver());
         plainMap.put(JsonObject.class.getName(), new JsonObjectResolver());
         plainMap.put(JsonArray.class.getName(), new JsonArrayResolver());
 
-        plainListMap.put(Integer.class.getName(), new DataListResolver(Integer.class));
+        plainListMap.put(Integer.class.getName(), new IntListResolver());
+        plainListMap.put(Long.class.getName(), new LongListResolver());
+        plainListMap.put(Double.class.getName(), new DoubleListResolver());
         plainListMap.put(String.class.getName(), new DataListResolver(String.class));
         plainListMap.put(JsonObject.class.getName(), new DataListResolver(JsonObject.class));
 
@@ -70,34 +96,38 @@ public final class TypeResolverFactory {
         return plainListMap.get(typeClz$.getName());
     }
 
+    /**
+     * adds the resolver of a plain type, for {@link io.devnindo.datatype.schema.BeanSchema#plainField}
+     *
+     * @throws IllegalStateException if {@code typeClz$} already has a resolver
+     */
+    public static final <T> void register(Class<T> typeClz$, TypeResolver<T> resolver$) {
+        if (plainMap.putIfAbsent(typeClz$.getName(), resolver$) != null)
+            throw new IllegalStateException("Resolver already registered for " + typeClz$.getName());
+    }
+
+    /**
+     * adds the resolver of a list of a plain type, for {@link io.devnindo.datatype.schema.BeanSchema#plainListField}
+     *
+     * @throws IllegalStateException if {@code typeClz$} already has a list resolver
+     */
+    public static final <T> void registerList(Class<T> typeClz$, TypeResolver<List<T>> resolver$) {
+        if (plainListMap.putIfAbsent(typeClz$.getName(), resolver$) != null)
+            throw new IllegalStateException("List resolver already registered for " + typeClz$.getName());
+    }
+
     public static final <T extends Enum<T>> TypeResolver<T> enumType(Class<T> enumType$) {
-        TypeResolver<T> resolver = enumMap.get(enumType$.getName());
-        if (resolver == null) {
-            resolver = new EnumResolver<>(enumType$);
-            enumMap.put(enumType$.getName(), resolver);
-        }
-        return resolver;
+        return enumValue.get(enumType$);
     }
 
     public static final <T extends DataBean> TypeResolver<T> beanType(Class<T> beanType) {
-        TypeResolver<T> resolver = beanMap.get(beanType.getName());
-        if (resolver == null) {
-            resolver = new BeanResolver<>(beanType);
-            beanMap.put(beanType.getName(), resolver);
-        }
-        return resolver;
+        return beanValue.get(beanType);
     }
 
 
     public static final <T extends DataBean> TypeResolver<List<T>> beanList(Class<T> beanType) {
-        TypeResolver<List<T>> resolver = beanListMap.get(beanType.getName());
-        if (resolver == null) {
-            resolver = new BeanListResolver<>(beanType);
-            beanListMap.put(beanType.getName(), resolver);
-        }
-        return resolver;
+        return beanListValue.get(beanType);
     }
 
 
 }
-
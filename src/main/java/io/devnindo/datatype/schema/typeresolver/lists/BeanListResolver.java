@@ -15,14 +15,23 @@
  */
 package io.devnindo.datatype.schema.typeresolver.lists;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.devnindo.datatype.json.EncodeException;
 import io.devnindo.datatype.json.JsonArray;
 import io.devnindo.datatype.json.JsonObject;
+import io.devnindo.datatype.schema.BeanSchema;
 import io.devnindo.datatype.schema.DataBean;
 import io.devnindo.datatype.schema.typeresolver.TypeResolver;
 import io.devnindo.datatype.util.Either;
+import io.devnindo.datatype.util.PackedReader;
+import io.devnindo.datatype.util.PackedWriter;
 import io.devnindo.datatype.validation.Violation;
+import io.devnindo.datatype.validation.ViolationSink;
 import io.devnindo.datatype.validation.violations.TypeViolations;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
@@ -30,7 +39,7 @@ import java.util.function.Consumer;
 public class BeanListResolver<T extends DataBean> implements TypeResolver<List<T>> {
     private final Violation listJsonObjViolation;
     // Integer, String, Double, JsonObject
-    Class<T> beanType;
+    public final Class<T> beanType;
 
     public BeanListResolver(Class<T> dataType$) {
         beanType = dataType$;
@@ -39,36 +48,98 @@ public class BeanListResolver<T extends DataBean> implements TypeResolver<List<T
 
     @Override
     public Either<Violation, List<T>> evalJsonVal(Object val) {
+        ViolationSink sink = new ViolationSink();
+        return sink.either(evalJsonVal(val, sink));
+    }
+
+    @Override
+    public List<T> evalJsonVal(Object val, ViolationSink sink) {
         if (val instanceof JsonArray == false)
-            return Either.left(listJsonObjViolation);
+            return sink.report(listJsonObjViolation);
+        // a tree from toJsonVal(..) holds the beans themselves, they are taken as they are
         JsonArray array = (JsonArray) val;
         for (int idx = 0; idx < array.size(); idx++) {
             Object obj = array.getValue(idx);
-            if (obj instanceof JsonObject == false)
-                return Either.left(listJsonObjViolation);
+            if (obj instanceof JsonObject == false && beanType.isInstance(obj) == false)
+                return sink.report(listJsonObjViolation);
         }
 
-        List<T> beanList = new ArrayList<>();
+        BeanSchema<T> schema = BeanSchema.forClass(beanType);
+        List<T> beanList = new ArrayList<>(array.size());
         for (int idx = 0; idx < array.size(); idx++) {
-            JsonObject js = array.getJsonObject(idx);
-            Either<Violation, T> beanEither = js.toBeanEither(beanType);
+            Object obj = array.getValue(idx);
+            if (beanType.isInstance(obj)) {
+                beanList.add(beanType.cast(obj));
+                continue;
+            }
+            T bean = schema.apply((JsonObject) obj, sink);
+            if (bean == null)
+                return sink.forward(TypeViolations.validBeanItem(idx, sink.take()));
+
+            beanList.add(bean);
+        }
+
+        return beanList;
+    }
 
-            if (beanEither.isLeft())
-                return Either.left(TypeViolations.validBeanItem(idx, beanEither.left()));
+    @Override
+    public Either<Violation, List<T>> readJson(JsonParser parser) throws IOException {
+        ViolationSink sink = new ViolationSink();
+        return sink.either(readJson(parser, sink));
+    }
 
-            beanList.add(beanEither.right());
+    @Override
+    public List<T> readJson(JsonParser parser, ViolationSink sink) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return sink.report(listJsonObjViolation);
         }
 
-        return Either.right(beanList);
+        // same precedence as the tree path: a non-object item beats an invalid bean item
+        BeanSchema<T> schema = BeanSchema.forClass(beanType);
+        List<T> beanList = new ArrayList<>();
+        Violation itemViolation = null;
+        boolean nonObjItem = false;
+        for (int idx = 0; parser.nextToken() != JsonToken.END_ARRAY; idx++) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                nonObjItem = true;
+                parser.skipChildren();
+            } else if (nonObjItem || itemViolation != null) {
+                parser.skipChildren();
+            } else {
+                T bean = schema.readJson(parser, sink);
+                if (bean == null)
+                    itemViolation = TypeViolations.validBeanItem(idx, sink.take());
+                else
+                    beanList.add(bean);
+            }
+        }
+
+        if (nonObjItem)
+            return sink.report(listJsonObjViolation);
+        if (itemViolation != null)
+            return sink.forward(itemViolation);
+        return beanList;
     }
 
     @Override
     public Object toJsonVal(List<T> dataList) {
-        JsonArray array = new JsonArray();
-        dataList.forEach(bean -> array.add(bean.toJson()));
+        // the beans are encoded by their schema when the tree is written, see BulkEncoder for large lists
         return dataList;
     }
 
+    @Override
+    public void writeJson(List<T> dataList, JsonGenerator generator) throws IOException {
+        generator.writeStartArray();
+        for (T bean : dataList) {
+            if (bean == null)
+                generator.writeNull();
+            else
+                BeanSchema.forClass(bean.getClass()).writeJson(bean, generator);
+        }
+        generator.writeEndArray();
+    }
+
     @Override
     public List<T> diff(List<T> from, List<T> to, Consumer changeConsumer) {
         if (from == null || allEqual(from, to))
@@ -88,5 +159,60 @@ public class BeanListResolver<T extends DataBean> implements TypeResolver<List<T
 
         return true;
     }
-}
 
+    @Override
+    public String packedType() {
+        return "list<bean>";
+    }
+
+    /**
+     * item count, the layout fingerprint once for a non-empty list, then the items packed by the schema of
+     * {@code beanType}. Null items are not allowed, as in JSON.
+     */
+    @Override
+    public void writePacked(List<T> dataList, PackedWriter out) {
+        BeanSchema<T> schema = BeanSchema.forClass(beanType);
+        out.writeUnsignedVarInt(dataList.size());
+        if (dataList.isEmpty())
+            return;
+        out.writeLong(schema.packedLayout().fingerprint);
+        for (T bean : dataList) {
+            if (bean == null)
+                throw new EncodeException("Null item in list of " + beanType.getSimpleName());
+            schema.writePackedBody(bean, out);
+        }
+    }
+
+    @Override
+    public Either<Violation, List<T>> readPacked(PackedReader in) {
+        ViolationSink sink = new ViolationSink();
+        return sink.either(readPacked(in, sink));
+    }
+
+    @Override
+    public List<T> readPacked(PackedReader in, ViolationSink sink) {
+        BeanSchema<T> schema = BeanSchema.forClass(beanType);
+        int size = in.readCount(0);
+        // an item takes a byte or more unless its bean has no fields, the capacity is bounded by the input
+        List<T> beanList = new ArrayList<>(Math.min(size, in.remaining()));
+        if (size == 0)
+            return beanList;
+        long fingerprint = in.readLong();
+        Violation itemViolation = null;
+        // every item is read, the data after the list stays in place
+        for (int idx = 0; idx < size; idx++) {
+            if (itemViolation != null) {
+                schema.skipPackedBody(fingerprint, in);
+                continue;
+            }
+            T bean = schema.readPackedBody(fingerprint, in, sink);
+            Violation beanViolation = sink.take();
+            if (beanViolation != null)
+                itemViolation = TypeViolations.validBeanItem(idx, beanViolation);
+            else
+                beanList.add(bean);
+        }
+
+        return itemViolation != null ? sink.forward(itemViolation) : beanList;
+    }
+}
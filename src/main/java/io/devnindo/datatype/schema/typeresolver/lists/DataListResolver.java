@@ -15,20 +15,28 @@
  */
 package io.devnindo.datatype.schema.typeresolver.lists;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import io.devnindo.datatype.json.JsonArray;
+import io.devnindo.datatype.json.jackson.JacksonCodec;
 import io.devnindo.datatype.schema.typeresolver.TypeResolver;
+import io.devnindo.datatype.schema.typeresolver.TypeResolverFactory;
 import io.devnindo.datatype.util.Either;
+import io.devnindo.datatype.util.PackedReader;
+import io.devnindo.datatype.util.PackedWriter;
 import io.devnindo.datatype.validation.Violation;
 import io.devnindo.datatype.validation.violations.TypeViolations;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
 
 public class DataListResolver<T> implements TypeResolver<List<T>> {
     private final Violation listTypeViolation;
-    // Integer, String, Double, JsonObject
-    Class<T> dataType;
+    // String, JsonObject; Integer, Long and Double lists have primitive backed resolvers
+    public final Class<T> dataType;
 
     public DataListResolver(Class<T> dataType$) {
         dataType = dataType$;
@@ -53,11 +61,40 @@ public class DataListResolver<T> implements TypeResolver<List<T>> {
         return Either.right(jsObjList);
     }
 
+    @Override
+    public Either<Violation, List<T>> readJson(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return Either.left(listTypeViolation);
+        }
+
+        List<T> dataList = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            Object obj = JacksonCodec.readValue(parser);
+            if (obj != null && dataType.getName().equals(obj.getClass().getName()) == false) {
+                while (parser.nextToken() != JsonToken.END_ARRAY)
+                    parser.skipChildren();
+                return Either.left(listTypeViolation);
+            }
+            dataList.add((T) obj);
+        }
+
+        return Either.right(dataList);
+    }
+
     @Override
     public Object toJsonVal(List<T> dataList) {
         return dataList;
     }
 
+    @Override
+    public void writeJson(List<T> dataList, JsonGenerator generator) throws IOException {
+        generator.writeStartArray();
+        for (T data : dataList)
+            JacksonCodec.writeValue(data, generator);
+        generator.writeEndArray();
+    }
+
     @Override
     public List<T> diff(List<T> from, List<T> to, Consumer changeConsumer) {
         if (from == null || allEqual(from, to))
@@ -77,5 +114,58 @@ public class DataListResolver<T> implements TypeResolver<List<T>> {
 
         return true;
     }
-}
 
+    @Override
+    public String packedType() {
+        return "list<" + TypeResolverFactory.plain(dataType).packedType() + ">";
+    }
+
+    /**
+     * item count, a bitmap of the non-null items and the items packed by the plain resolver of {@code dataType}
+     */
+    @Override
+    public void writePacked(List<T> dataList, PackedWriter out) {
+        TypeResolver<T> itemResolver = TypeResolverFactory.plain(dataType);
+        int size = dataList.size();
+        out.writeUnsignedVarInt(size);
+        out.writeBitmap(presentBitmap(dataList, false), size);
+        for (T data : dataList) {
+            if (data != null)
+                itemResolver.writePacked(data, out);
+        }
+    }
+
+    // bit idx is set for a non-null item idx, a list without nulls is not scanned
+    static long[] presentBitmap(List<?> dataList, boolean noNull) {
+        int size = dataList.size();
+        long[] present = new long[(size + 63) >>> 6];
+        for (int idx = 0; idx < size; idx++) {
+            if (noNull || dataList.get(idx) != null)
+                present[idx >>> 6] |= 1L << idx;
+        }
+        return present;
+    }
+
+    @Override
+    public Either<Violation, List<T>> readPacked(PackedReader in) {
+        TypeResolver<T> itemResolver = TypeResolverFactory.plain(dataType);
+        int size = in.readCount(0);
+        long[] present = in.readBitmap(size);
+        List<T> dataList = new ArrayList<>(size);
+        boolean invalid = false;
+        // every item is read, the data after the list stays in place
+        for (int idx = 0; idx < size; idx++) {
+            if ((present[idx >>> 6] & (1L << idx)) == 0) {
+                dataList.add(null);
+                continue;
+            }
+            Either<Violation, T> either = itemResolver.readPacked(in);
+            if (either.isLeft())
+                invalid = true;
+            else
+                dataList.add(either.right());
+        }
+
+        return invalid ? Either.left(listTypeViolation) : Either.right(dataList);
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.schema.typeresolver.lists;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.devnindo.datatype.json.JsonArray;
+import io.devnindo.datatype.json.jackson.JacksonCodec;
+import io.devnindo.datatype.schema.typeresolver.TypeResolver;
+import io.devnindo.datatype.util.Either;
+import io.devnindo.datatype.util.DoubleList;
+import io.devnindo.datatype.util.PackedReader;
+import io.devnindo.datatype.util.PackedWriter;
+import io.devnindo.datatype.validation.Violation;
+import io.devnindo.datatype.validation.ViolationSink;
+import io.devnindo.datatype.validation.violations.TypeViolations;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Resolves {@code List<Double>} into an {@link DoubleList}, JSON numbers are read into its {@code double[]} without boxing.
+ * Unlike {@link DataListResolver} a null item is a violation.
+ */
+public class DoubleListResolver implements TypeResolver<List<Double>> {
+    private static final Violation LIST_TYPE = TypeViolations.plainDataList(Double.class);
+
+    @Override
+    public Either<Violation, List<Double>> evalJsonVal(Object val) {
+        ViolationSink sink = new ViolationSink();
+        return sink.either(evalJsonVal(val, sink));
+    }
+
+    @Override
+    public List<Double> evalJsonVal(Object val, ViolationSink sink) {
+        if (val instanceof JsonArray == false)
+            return sink.report(LIST_TYPE);
+        JsonArray array = (JsonArray) val;
+        DoubleList dataList = new DoubleList(array.size());
+        for (int idx = 0; idx < array.size(); idx++) {
+            Object obj = array.getValue(idx);
+            if (obj instanceof Number == false)
+                return sink.report(LIST_TYPE);
+            dataList.addDouble(((Number) obj).doubleValue());
+        }
+
+        return dataList;
+    }
+
+    @Override
+    public Either<Violation, List<Double>> readJson(JsonParser parser) throws IOException {
+        ViolationSink sink = new ViolationSink();
+        return sink.either(readJson(parser, sink));
+    }
+
+    @Override
+    public List<Double> readJson(JsonParser parser, ViolationSink sink) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return sink.report(LIST_TYPE);
+        }
+
+        DoubleList dataList = new DoubleList();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            JsonToken token = parser.currentToken();
+            if (token != JsonToken.VALUE_NUMBER_INT && token != JsonToken.VALUE_NUMBER_FLOAT) {
+                skipRest(parser);
+                return sink.report(LIST_TYPE);
+            }
+            dataList.addDouble(parser.getDoubleValue());
+        }
+
+        return dataList;
+    }
+
+    @Override
+    public Object toJsonVal(List<Double> dataList) {
+        return dataList;
+    }
+
+    @Override
+    public void writeJson(List<Double> dataList, JsonGenerator generator) throws IOException {
+        generator.writeStartArray(dataList, dataList.size());
+        if (dataList instanceof DoubleList) {
+            DoubleList primList = (DoubleList) dataList;
+            for (int idx = 0; idx < primList.size(); idx++)
+                generator.writeNumber(primList.getDouble(idx));
+        } else {
+            for (Double data : dataList)
+                JacksonCodec.writeValue(data, generator);
+        }
+        generator.writeEndArray();
+    }
+
+    @Override
+    public List<Double> diff(List<Double> from, List<Double> to, Consumer changeConsumer) {
+        if (from == null || from.equals(to))
+            return to;
+
+        changeConsumer.accept(to);
+        return from;
+    }
+
+    @Override
+    public String packedType() {
+        return "list<double>";
+    }
+
+    /**
+     * same layout as {@link DataListResolver}: item count, a bitmap of the non-null items and the items
+     */
+    @Override
+    public void writePacked(List<Double> dataList, PackedWriter out) {
+        int size = dataList.size();
+        out.writeUnsignedVarInt(size);
+        if (dataList instanceof DoubleList) {
+            DoubleList primList = (DoubleList) dataList;
+            out.writeBitmap(DataListResolver.presentBitmap(primList, true), size);
+            for (int idx = 0; idx < size; idx++)
+                out.writeDouble(primList.getDouble(idx));
+        } else {
+            out.writeBitmap(DataListResolver.presentBitmap(dataList, false), size);
+            for (Double data : dataList) {
+                if (data != null)
+                    out.writeDouble(data);
+            }
+        }
+    }
+
+    @Override
+    public Either<Violation, List<Double>> readPacked(PackedReader in) {
+        ViolationSink sink = new ViolationSink();
+        return sink.either(readPacked(in, sink));
+    }
+
+    @Override
+    public List<Double> readPacked(PackedReader in, ViolationSink sink) {
+        int size = in.readCount(0);
+        long[] present = in.readBitmap(size);
+        DoubleList dataList = new DoubleList(size);
+        boolean invalid = false;
+        for (int idx = 0; idx < size; idx++) {
+            if ((present[idx >>> 6] & (1L << idx)) == 0)
+                invalid = true;
+            else
+                dataList.addDouble(in.readDouble());
+        }
+
+        return invalid ? sink.report(LIST_TYPE) : dataList;
+    }
+
+    // the rest of the array after a mismatched item, the parser is left at its end
+    private static void skipRest(JsonParser parser) throws IOException {
+        do {
+            parser.skipChildren();
+        } while (parser.nextToken() != JsonToken.END_ARRAY);
+    }
+}
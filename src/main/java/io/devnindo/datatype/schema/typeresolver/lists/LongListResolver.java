@@ -0,0 +1,189 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.schema.typeresolver.lists;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.devnindo.datatype.json.JsonArray;
+import io.devnindo.datatype.json.jackson.JacksonCodec;
+import io.devnindo.datatype.schema.typeresolver.TypeResolverFactory;
+import io.devnindo.datatype.schema.typeresolver.TypeResolver;
+import io.devnindo.datatype.util.Either;
+import io.devnindo.datatype.util.LongList;
+import io.devnindo.datatype.util.PackedReader;
+import io.devnindo.datatype.util.PackedWriter;
+import io.devnindo.datatype.validation.Violation;
+import io.devnindo.datatype.validation.ViolationSink;
+import io.devnindo.datatype.validation.violations.TypeViolations;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Resolves {@code List<Long>} into an {@link LongList}, JSON integers are read into its {@code long[]} without boxing.
+ * Unlike {@link DataListResolver} a null item is a violation.
+ */
+public class LongListResolver implements TypeResolver<List<Long>> {
+    private static final Violation LIST_TYPE = TypeViolations.plainDataList(Long.class);
+
+    @Override
+    public Either<Violation, List<Long>> evalJsonVal(Object val) {
+        ViolationSink sink = new ViolationSink();
+        return sink.either(evalJsonVal(val, sink));
+    }
+
+    @Override
+    public List<Long> evalJsonVal(Object val, ViolationSink sink) {
+        if (val instanceof JsonArray == false)
+            return sink.report(LIST_TYPE);
+        JsonArray array = (JsonArray) val;
+        LongList dataList = new LongList(array.size());
+        for (int idx = 0; idx < array.size(); idx++) {
+            Object obj = array.getValue(idx);
+            if (obj instanceof Integer || obj instanceof Long) {
+                dataList.addLong(((Number) obj).longValue());
+                continue;
+            }
+            // the "1234L" strings of LongResolver
+            Long item = TypeResolverFactory.plain(Long.class).evalJsonVal(obj, sink);
+            if (item == null)
+                return sink.forward(LIST_TYPE);
+            dataList.addLong(item);
+        }
+
+        return dataList;
+    }
+
+    @Override
+    public Either<Violation, List<Long>> readJson(JsonParser parser) throws IOException {
+        ViolationSink sink = new ViolationSink();
+        return sink.either(readJson(parser, sink));
+    }
+
+    @Override
+    public List<Long> readJson(JsonParser parser, ViolationSink sink) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return sink.report(LIST_TYPE);
+        }
+
+        LongList dataList = new LongList();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            JsonToken token = parser.currentToken();
+            if (token == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+                dataList.addLong(parser.getLongValue());
+                continue;
+            }
+            if (token != JsonToken.VALUE_STRING) {
+                skipRest(parser);
+                return sink.report(LIST_TYPE);
+            }
+            Long item = TypeResolverFactory.plain(Long.class).readJson(parser, sink);
+            if (item == null) {
+                skipRest(parser);
+                return sink.forward(LIST_TYPE);
+            }
+            dataList.addLong(item);
+        }
+
+        return dataList;
+    }
+
+    @Override
+    public Object toJsonVal(List<Long> dataList) {
+        return dataList;
+    }
+
+    @Override
+    public void writeJson(List<Long> dataList, JsonGenerator generator) throws IOException {
+        generator.writeStartArray(dataList, dataList.size());
+        if (dataList instanceof LongList) {
+            LongList primList = (LongList) dataList;
+            for (int idx = 0; idx < primList.size(); idx++)
+                generator.writeNumber(primList.getLong(idx));
+        } else {
+            for (Long data : dataList)
+                JacksonCodec.writeValue(data, generator);
+        }
+        generator.writeEndArray();
+    }
+
+    @Override
+    public List<Long> diff(List<Long> from, List<Long> to, Consumer changeConsumer) {
+        if (from == null || from.equals(to))
+            return to;
+
+        changeConsumer.accept(to);
+        return from;
+    }
+
+    @Override
+    public String packedType() {
+        return "list<long>";
+    }
+
+    /**
+     * same layout as {@link DataListResolver}: item count, a bitmap of the non-null items and the items
+     */
+    @Override
+    public void writePacked(List<Long> dataList, PackedWriter out) {
+        int size = dataList.size();
+        out.writeUnsignedVarInt(size);
+        if (dataList instanceof LongList) {
+            LongList primList = (LongList) dataList;
+            out.writeBitmap(DataListResolver.presentBitmap(primList, true), size);
+            for (int idx = 0; idx < size; idx++)
+                out.writeVarLong(primList.getLong(idx));
+        } else {
+            out.writeBitmap(DataListResolver.presentBitmap(dataList, false), size);
+            for (Long data : dataList) {
+                if (data != null)
+                    out.writeVarLong(data);
+            }
+        }
+    }
+
+    @Override
+    public Either<Violation, List<Long>> readPacked(PackedReader in) {
+        ViolationSink sink = new ViolationSink();
+        return sink.either(readPacked(in, sink));
+    }
+
+    @Override
+    public List<Long> readPacked(PackedReader in, ViolationSink sink) {
+        int size = in.readCount(0);
+        long[] present = in.readBitmap(size);
+        LongList dataList = new LongList(size);
+        boolean invalid = false;
+        for (int idx = 0; idx < size; idx++) {
+            if ((present[idx >>> 6] & (1L << idx)) == 0)
+                invalid = true;
+            else
+                dataList.addLong(in.readVarLong());
+        }
+
+        return invalid ? sink.report(LIST_TYPE) : dataList;
+    }
+
+    // the rest of the array after a mismatched item, the parser is left at its end
+    private static void skipRest(JsonParser parser) throws IOException {
+        do {
+            parser.skipChildren();
+        } while (parser.nextToken() != JsonToken.END_ARRAY);
+    }
+}
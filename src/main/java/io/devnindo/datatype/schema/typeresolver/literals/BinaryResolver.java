@@ -0,0 +1,118 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.schema.typeresolver.literals;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import io.devnindo.datatype.schema.typeresolver.SimpleTypeResolverIF;
+import io.devnindo.datatype.util.Either;
+import io.devnindo.datatype.util.PackedReader;
+import io.devnindo.datatype.util.PackedWriter;
+import io.devnindo.datatype.validation.Violation;
+import io.devnindo.datatype.validation.ViolationSink;
+import io.devnindo.datatype.validation.violations.TypeViolations;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import static io.devnindo.datatype.util.JsonUtil.BASE64_DECODER;
+import static io.devnindo.datatype.util.JsonUtil.BASE64_ENCODER;
+
+/**
+ *  Binary resolver accept raw bytes from a binary format, or a base64url JsonVal from JSON text
+ * */
+public class BinaryResolver implements SimpleTypeResolverIF<byte[]> {
+
+    @Override
+    public Either<Violation, byte[]> evalJsonVal(Object val) {
+        ViolationSink sink = new ViolationSink();
+        return sink.either(evalJsonVal(val, sink));
+    }
+
+    @Override
+    public byte[] evalJsonVal(Object val, ViolationSink sink) {
+        if (val instanceof byte[])
+            return (byte[]) val;
+        if (val instanceof String == false)
+            return sink.report(TypeViolations.BINARY_TYPE);
+        return evalBase64((String) val, sink);
+    }
+
+    @Override
+    public void writeJson(byte[] val, JsonGenerator generator) throws IOException {
+        if (generator.canWriteBinaryNatively())
+            generator.writeBinary(val);
+        else
+            generator.writeString(BASE64_ENCODER.encodeToString(val));
+    }
+
+    @Override
+    public Either<Violation, byte[]> readJson(JsonParser parser) throws IOException {
+        ViolationSink sink = new ViolationSink();
+        return sink.either(readJson(parser, sink));
+    }
+
+    @Override
+    public byte[] readJson(JsonParser parser, ViolationSink sink) throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_EMBEDDED_OBJECT:
+                return evalJsonVal(parser.getEmbeddedObject(), sink);
+            case VALUE_STRING:
+                return evalBase64(parser.getText(), sink);
+            default:
+                parser.skipChildren();
+                return sink.report(TypeViolations.BINARY_TYPE);
+        }
+    }
+
+    @Override
+    public byte[] diff(byte[] from, byte[] to, Consumer changeConsumer) {
+        if (from == null || Arrays.equals(from, to))
+            return to;
+
+        changeConsumer.accept(to);
+        return from;
+    }
+
+    private static byte[] evalBase64(String encoded, ViolationSink sink) {
+        try {
+            return BASE64_DECODER.decode(encoded);
+        } catch (IllegalArgumentException excp) {
+            return sink.report(TypeViolations.BINARY_TYPE);
+        }
+    }
+
+    @Override
+    public String packedType() {
+        return "binary";
+    }
+
+    @Override
+    public void writePacked(byte[] val, PackedWriter out) {
+        out.writeBytes(val);
+    }
+
+    @Override
+    public Either<Violation, byte[]> readPacked(PackedReader in) {
+        return Either.right(in.readBytes());
+    }
+
+    @Override
+    public byte[] readPacked(PackedReader in, ViolationSink sink) {
+        return in.readBytes();
+    }
+}
@@ -15,19 +15,74 @@
  */
 package io.devnindo.datatype.schema.typeresolver.literals;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import io.devnindo.datatype.schema.typeresolver.SimpleTypeResolverIF;
 import io.devnindo.datatype.util.Either;
+import io.devnindo.datatype.util.PackedReader;
+import io.devnindo.datatype.util.PackedWriter;
 import io.devnindo.datatype.validation.Violation;
+import io.devnindo.datatype.validation.ViolationSink;
 import io.devnindo.datatype.validation.violations.TypeViolations;
 
+import java.io.IOException;
+
 public class BooleanResolver implements SimpleTypeResolverIF<Boolean> {
     @Override
     public Either<Violation, Boolean> evalJsonVal(Object val) {
+        ViolationSink sink = new ViolationSink();
+        return sink.either(evalJsonVal(val, sink));
+    }
+
+    @Override
+    public Boolean evalJsonVal(Object val, ViolationSink sink) {
         if (val instanceof Boolean == false)
-            Either.left(TypeViolations.BOOLEAN_TYPE);
+            return sink.report(TypeViolations.BOOLEAN_TYPE);
 
-        return Either.right((Boolean) val);
+        return (Boolean) val;
     }
 
-}
+    @Override
+    public void writeJson(Boolean val, JsonGenerator generator) throws IOException {
+        generator.writeBoolean(val.booleanValue());
+    }
+
+    @Override
+    public Either<Violation, Boolean> readJson(JsonParser parser) throws IOException {
+        ViolationSink sink = new ViolationSink();
+        return sink.either(readJson(parser, sink));
+    }
+
+    @Override
+    public Boolean readJson(JsonParser parser, ViolationSink sink) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_TRUE)
+            return Boolean.TRUE;
+        if (token == JsonToken.VALUE_FALSE)
+            return Boolean.FALSE;
+
+        parser.skipChildren();
+        return sink.report(TypeViolations.BOOLEAN_TYPE);
+    }
+
+    @Override
+    public String packedType() {
+        return "boolean";
+    }
+
+    @Override
+    public void writePacked(Boolean val, PackedWriter out) {
+        out.writeBoolean(val);
+    }
 
+    @Override
+    public Either<Violation, Boolean> readPacked(PackedReader in) {
+        return Either.right(in.readBoolean());
+    }
+
+    @Override
+    public Boolean readPacked(PackedReader in, ViolationSink sink) {
+        return in.readBoolean();
+    }
+}
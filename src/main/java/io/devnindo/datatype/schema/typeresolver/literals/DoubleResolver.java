@@ -15,20 +15,73 @@
  */
 package io.devnindo.datatype.schema.typeresolver.literals;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import io.devnindo.datatype.schema.typeresolver.SimpleTypeResolverIF;
 import io.devnindo.datatype.util.Either;
+import io.devnindo.datatype.util.PackedReader;
+import io.devnindo.datatype.util.PackedWriter;
 import io.devnindo.datatype.validation.Violation;
+import io.devnindo.datatype.validation.ViolationSink;
 import io.devnindo.datatype.validation.violations.TypeViolations;
 
+import java.io.IOException;
+
 public class DoubleResolver implements SimpleTypeResolverIF<Double> {
     @Override
     public Either<Violation, Double> evalJsonVal(Object val) {
+        ViolationSink sink = new ViolationSink();
+        return sink.either(evalJsonVal(val, sink));
+    }
+
+    @Override
+    public Double evalJsonVal(Object val, ViolationSink sink) {
         if (val instanceof Number == false)
-            return Either.left(TypeViolations.DOUBLE_TYPE);
+            return sink.report(TypeViolations.DOUBLE_TYPE);
 
-        Double dVal = ((Number) val).doubleValue();
-        return Either.right(dVal);
+        return ((Number) val).doubleValue();
+    }
 
+    @Override
+    public void writeJson(Double val, JsonGenerator generator) throws IOException {
+        generator.writeNumber(val.doubleValue());
+    }
+
+    @Override
+    public Either<Violation, Double> readJson(JsonParser parser) throws IOException {
+        ViolationSink sink = new ViolationSink();
+        return sink.either(readJson(parser, sink));
+    }
+
+    @Override
+    public Double readJson(JsonParser parser, ViolationSink sink) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token != JsonToken.VALUE_NUMBER_INT && token != JsonToken.VALUE_NUMBER_FLOAT) {
+            parser.skipChildren();
+            return sink.report(TypeViolations.DOUBLE_TYPE);
+        }
+
+        return parser.getDoubleValue();
+    }
+
+    @Override
+    public String packedType() {
+        return "double";
+    }
+
+    @Override
+    public void writePacked(Double val, PackedWriter out) {
+        out.writeDouble(val);
     }
-}
 
+    @Override
+    public Either<Violation, Double> readPacked(PackedReader in) {
+        return Either.right(in.readDouble());
+    }
+
+    @Override
+    public Double readPacked(PackedReader in, ViolationSink sink) {
+        return in.readDouble();
+    }
+}
@@ -15,34 +15,98 @@
  */
 package io.devnindo.datatype.schema.typeresolver.literals;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import io.devnindo.datatype.schema.typeresolver.SimpleTypeResolverIF;
 import io.devnindo.datatype.util.Either;
+import io.devnindo.datatype.util.PackedReader;
+import io.devnindo.datatype.util.PackedWriter;
 import io.devnindo.datatype.validation.Violation;
+import io.devnindo.datatype.validation.ViolationSink;
 import io.devnindo.datatype.validation.violations.TypeViolations;
 
+import java.io.IOException;
+
 
 public class EnumResolver<T extends Enum<T>> implements SimpleTypeResolverIF<T> {
 
     public final Class<T> enumType;
     private final Violation enumViolation;
+    // by ordinal, getEnumConstants() clones on every call
+    private final T[] constArr;
 
     public EnumResolver(Class<T> clzEnum) {
         enumType = clzEnum;
+        constArr = enumType.getEnumConstants();
         enumViolation = TypeViolations.enumVal(enumType);
     }
 
     @Override
     public Either<Violation, T> evalJsonVal(Object val) {
+        ViolationSink sink = new ViolationSink();
+        return sink.either(evalJsonVal(val, sink));
+    }
+
+    @Override
+    public T evalJsonVal(Object val, ViolationSink sink) {
         if (val instanceof String == false) // null safe operation
-            return Either.left(enumViolation);
+            return sink.report(enumViolation);
+        return evalName((String) val, sink);
+    }
+
+    @Override
+    public void writeJson(T val, JsonGenerator generator) throws IOException {
+        generator.writeString(val.name());
+    }
+
+    @Override
+    public Either<Violation, T> readJson(JsonParser parser) throws IOException {
+        ViolationSink sink = new ViolationSink();
+        return sink.either(readJson(parser, sink));
+    }
+
+    @Override
+    public T readJson(JsonParser parser, ViolationSink sink) throws IOException {
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            parser.skipChildren();
+            return sink.report(enumViolation);
+        }
+        return evalName(parser.getText(), sink);
+    }
+
+    private T evalName(String name, ViolationSink sink) {
         try {
-            T anEnum = Enum.valueOf(enumType, (String) val);
-            return Either.right(anEnum);
+            return Enum.valueOf(enumType, name);
         } catch (IllegalArgumentException exception) {
-            return Either.left(enumViolation);
+            return sink.report(enumViolation);
         }
     }
 
+    @Override
+    public String packedType() {
+        return "enum";
+    }
 
-}
+    /**
+     * writes the ordinal, reordering the constants of {@code enumType} breaks packed data written before
+     */
+    @Override
+    public void writePacked(T val, PackedWriter out) {
+        out.writeUnsignedVarInt(val.ordinal());
+    }
 
+    @Override
+    public Either<Violation, T> readPacked(PackedReader in) {
+        ViolationSink sink = new ViolationSink();
+        return sink.either(readPacked(in, sink));
+    }
+
+    @Override
+    public T readPacked(PackedReader in, ViolationSink sink) {
+        int ordinal = in.readUnsignedVarInt();
+        if (ordinal < 0 || ordinal >= constArr.length)
+            return sink.report(enumViolation);
+        return constArr[ordinal];
+    }
+}
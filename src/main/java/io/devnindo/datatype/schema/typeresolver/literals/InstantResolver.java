@@ -15,11 +15,20 @@
  */
 package io.devnindo.datatype.schema.typeresolver.literals;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.devnindo.datatype.json.jackson.JacksonCodec;
 import io.devnindo.datatype.schema.typeresolver.SimpleTypeResolverIF;
 import io.devnindo.datatype.util.Either;
+import io.devnindo.datatype.util.PackedReader;
+import io.devnindo.datatype.util.PackedWriter;
 import io.devnindo.datatype.validation.Violation;
+import io.devnindo.datatype.validation.ViolationSink;
 import io.devnindo.datatype.validation.violations.TypeViolations;
 
+import java.io.IOException;
+import java.time.DateTimeException;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
 
@@ -29,19 +38,145 @@ import static java.time.format.DateTimeFormatter.ISO_INSTANT;
  *  Instant resolver accept a JsonVal in ISO UTC format
  * */
 public class InstantResolver implements SimpleTypeResolverIF<Instant> {
+    // 0000-01-01T00:00:00Z and 9999-12-31T23:59:59Z, outside of it ISO_INSTANT prints a signed year
+    private static final long MIN_FAST_SECOND = -62167219200L;
+    private static final long MAX_FAST_SECOND = 253402300799L;
+    private static final ThreadLocal<char[]> CHAR_BUF = ThreadLocal.withInitial(() -> new char[30]);
+
     @Override
     public Either<Violation, Instant> evalJsonVal(Object val) {
+        ViolationSink sink = new ViolationSink();
+        return sink.either(evalJsonVal(val, sink));
+    }
+
+    @Override
+    public Instant evalJsonVal(Object val, ViolationSink sink) {
+        // binary trees keep the Instant
+        if (val instanceof Instant)
+            return (Instant) val;
         if (val instanceof String == false)
-            return Either.left(TypeViolations.INSTANT_UTC_TYPE);
+            return sink.report(TypeViolations.INSTANT_UTC_TYPE);
+
+        return evalDateTime((String) val, sink);
+    }
+
+    @Override
+    public void writeJson(Instant val, JsonGenerator generator) throws IOException {
+        if (generator.canWriteBinaryNatively()) {
+            // binary formats tag the date/time string
+            JacksonCodec.writeValue(val, generator);
+            return;
+        }
+        long epochSecond = val.getEpochSecond();
+        if (epochSecond < MIN_FAST_SECOND || epochSecond > MAX_FAST_SECOND) {
+            generator.writeString(ISO_INSTANT.format(val));
+            return;
+        }
+        char[] buf = CHAR_BUF.get();
+        generator.writeString(buf, 0, formatTo(epochSecond, val.getNano(), buf));
+    }
+
+    /**
+     * format as ISO_INSTANT does for years 0000 to 9999: nanos are printed in groups of three digits, only as many
+     * as needed
+     *
+     * @return number of chars written to {@code buf}
+     */
+    static int formatTo(long epochSecond, int nano, char[] buf) {
+        long epochDay = Math.floorDiv(epochSecond, 86400L);
+        int secOfDay = (int) Math.floorMod(epochSecond, 86400L);
+
+        // civil date from days since epoch, era based as in java.time.LocalDate.ofEpochDay
+        long zeroDay = epochDay + 719468L;
+        long era = Math.floorDiv(zeroDay, 146097L);
+        int dayOfEra = (int) (zeroDay - era * 146097L);
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        int year = (int) (yearOfEra + era * 400L) + (month <= 2 ? 1 : 0);
+
+        int pos = digits(year, 4, buf, 0);
+        buf[pos++] = '-';
+        pos = digits(month, 2, buf, pos);
+        buf[pos++] = '-';
+        pos = digits(day, 2, buf, pos);
+        buf[pos++] = 'T';
+        pos = digits(secOfDay / 3600, 2, buf, pos);
+        buf[pos++] = ':';
+        pos = digits(secOfDay / 60 % 60, 2, buf, pos);
+        buf[pos++] = ':';
+        pos = digits(secOfDay % 60, 2, buf, pos);
+        if (nano != 0) {
+            buf[pos++] = '.';
+            if (nano % 1000_000 == 0)
+                pos = digits(nano / 1000_000, 3, buf, pos);
+            else if (nano % 1000 == 0)
+                pos = digits(nano / 1000, 6, buf, pos);
+            else
+                pos = digits(nano, 9, buf, pos);
+        }
+        buf[pos++] = 'Z';
+        return pos;
+    }
+
+    private static int digits(int val, int width, char[] buf, int pos) {
+        for (int idx = pos + width - 1; idx >= pos; idx--) {
+            buf[idx] = (char) ('0' + val % 10);
+            val /= 10;
+        }
+        return pos + width;
+    }
+
+    @Override
+    public Either<Violation, Instant> readJson(JsonParser parser) throws IOException {
+        ViolationSink sink = new ViolationSink();
+        return sink.either(readJson(parser, sink));
+    }
+
+    @Override
+    public Instant readJson(JsonParser parser, ViolationSink sink) throws IOException {
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            parser.skipChildren();
+            return sink.report(TypeViolations.INSTANT_UTC_TYPE);
+        }
+        return evalDateTime(parser.getText(), sink);
+    }
 
-        String dateTime = (String) val;
+    private static Instant evalDateTime(String dateTime, ViolationSink sink) {
         try {
-            Instant daTime = Instant.from(ISO_INSTANT.parse(dateTime));
-            return Either.right(daTime);
+            return Instant.from(ISO_INSTANT.parse(dateTime));
         } catch (DateTimeParseException excp) {
-            return Either.left(TypeViolations.INSTANT_UTC_TYPE);
+            return sink.report(TypeViolations.INSTANT_UTC_TYPE);
         }
+    }
 
+    @Override
+    public String packedType() {
+        return "instant";
+    }
+
+    @Override
+    public void writePacked(Instant val, PackedWriter out) {
+        out.writeVarLong(val.getEpochSecond());
+        out.writeUnsignedVarInt(val.getNano());
+    }
+
+    @Override
+    public Either<Violation, Instant> readPacked(PackedReader in) {
+        ViolationSink sink = new ViolationSink();
+        return sink.either(readPacked(in, sink));
     }
-}
 
+    @Override
+    public Instant readPacked(PackedReader in, ViolationSink sink) {
+        long epochSecond = in.readVarLong();
+        int nano = in.readUnsignedVarInt();
+        try {
+            return Instant.ofEpochSecond(epochSecond, nano);
+        } catch (DateTimeException excp) {
+            return sink.report(TypeViolations.INSTANT_UTC_TYPE);
+        }
+    }
+}
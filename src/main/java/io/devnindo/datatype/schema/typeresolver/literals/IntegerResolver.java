@@ -15,19 +15,74 @@
  */
 package io.devnindo.datatype.schema.typeresolver.literals;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import io.devnindo.datatype.schema.typeresolver.SimpleTypeResolverIF;
 import io.devnindo.datatype.util.Either;
+import io.devnindo.datatype.util.PackedReader;
+import io.devnindo.datatype.util.PackedWriter;
 import io.devnindo.datatype.validation.Violation;
+import io.devnindo.datatype.validation.ViolationSink;
 import io.devnindo.datatype.validation.violations.TypeViolations;
 
+import java.io.IOException;
+
 public class IntegerResolver implements SimpleTypeResolverIF<Integer> {
 
     @Override
     public Either<Violation, Integer> evalJsonVal(Object val) {
+        ViolationSink sink = new ViolationSink();
+        return sink.either(evalJsonVal(val, sink));
+    }
+
+    @Override
+    public Integer evalJsonVal(Object val, ViolationSink sink) {
         if (val instanceof Integer == false)
-            return Either.left(TypeViolations.INTEGER_TYPE);
+            return sink.report(TypeViolations.INTEGER_TYPE);
 
-        return Either.right((Integer) val);
+        return (Integer) val;
+    }
+
+    @Override
+    public void writeJson(Integer val, JsonGenerator generator) throws IOException {
+        generator.writeNumber(val.intValue());
+    }
+
+    @Override
+    public Either<Violation, Integer> readJson(JsonParser parser) throws IOException {
+        ViolationSink sink = new ViolationSink();
+        return sink.either(readJson(parser, sink));
     }
-}
 
+    @Override
+    public Integer readJson(JsonParser parser, ViolationSink sink) throws IOException {
+        if (parser.currentToken() != JsonToken.VALUE_NUMBER_INT
+                || parser.getNumberType() != JsonParser.NumberType.INT) {
+            parser.skipChildren();
+            return sink.report(TypeViolations.INTEGER_TYPE);
+        }
+
+        return parser.getIntValue();
+    }
+
+    @Override
+    public String packedType() {
+        return "int";
+    }
+
+    @Override
+    public void writePacked(Integer val, PackedWriter out) {
+        out.writeVarInt(val);
+    }
+
+    @Override
+    public Either<Violation, Integer> readPacked(PackedReader in) {
+        return Either.right(in.readVarInt());
+    }
+
+    @Override
+    public Integer readPacked(PackedReader in, ViolationSink sink) {
+        return in.readVarInt();
+    }
+}
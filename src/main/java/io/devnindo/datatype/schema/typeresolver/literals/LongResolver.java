@@ -15,36 +15,92 @@
  */
 package io.devnindo.datatype.schema.typeresolver.literals;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import io.devnindo.datatype.schema.typeresolver.SimpleTypeResolverIF;
 import io.devnindo.datatype.util.Either;
+import io.devnindo.datatype.util.PackedReader;
+import io.devnindo.datatype.util.PackedWriter;
 import io.devnindo.datatype.validation.Violation;
+import io.devnindo.datatype.validation.ViolationSink;
 import io.devnindo.datatype.validation.violations.TypeViolations;
 
+import java.io.IOException;
+
 public class LongResolver implements SimpleTypeResolverIF<Long> {
     @Override
     public Either<Violation, Long> evalJsonVal(Object val) {
+        ViolationSink sink = new ViolationSink();
+        return sink.either(evalJsonVal(val, sink));
+    }
+
+    @Override
+    public Long evalJsonVal(Object val, ViolationSink sink) {
         if (val instanceof Long) {
-            return Either.right((Long) val);
+            return (Long) val;
         }
         if (val instanceof Integer) {
-            Long longVal = Long.valueOf((Integer) val);
-            return Either.right(longVal);
+            return Long.valueOf((Integer) val);
         } else if (val instanceof String) {
-            try {
-                String str = (String) val;
-                if (str.endsWith("L"))
-                    str = str.substring(0, str.length() - 1);
-
-                Long longVal = Long.valueOf(str);
-                return Either.right(longVal);
-            } catch (NumberFormatException exp) {
-                return Either.left(TypeViolations.LONG_TYPE);
-            }
+            return evalLongStr((String) val, sink);
         } else {
-            return Either.left(TypeViolations.LONG_TYPE);
+            return sink.report(TypeViolations.LONG_TYPE);
         }
 
     }
 
-}
+    @Override
+    public void writeJson(Long val, JsonGenerator generator) throws IOException {
+        generator.writeNumber(val.longValue());
+    }
+
+    @Override
+    public Either<Violation, Long> readJson(JsonParser parser) throws IOException {
+        ViolationSink sink = new ViolationSink();
+        return sink.either(readJson(parser, sink));
+    }
+
+    @Override
+    public Long readJson(JsonParser parser, ViolationSink sink) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER)
+            return parser.getLongValue();
+        if (token == JsonToken.VALUE_STRING)
+            return evalLongStr(parser.getText(), sink);
+
+        parser.skipChildren();
+        return sink.report(TypeViolations.LONG_TYPE);
+    }
+
+    private static Long evalLongStr(String str, ViolationSink sink) {
+        try {
+            if (str.endsWith("L"))
+                str = str.substring(0, str.length() - 1);
 
+            return Long.valueOf(str);
+        } catch (NumberFormatException exp) {
+            return sink.report(TypeViolations.LONG_TYPE);
+        }
+    }
+
+    @Override
+    public String packedType() {
+        return "long";
+    }
+
+    @Override
+    public void writePacked(Long val, PackedWriter out) {
+        out.writeVarLong(val);
+    }
+
+    @Override
+    public Either<Violation, Long> readPacked(PackedReader in) {
+        return Either.right(in.readVarLong());
+    }
+
+    @Override
+    public Long readPacked(PackedReader in, ViolationSink sink) {
+        return in.readVarLong();
+    }
+}
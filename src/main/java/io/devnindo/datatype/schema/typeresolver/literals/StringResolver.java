@@ -15,17 +15,70 @@
  */
 package io.devnindo.datatype.schema.typeresolver.literals;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import io.devnindo.datatype.schema.typeresolver.SimpleTypeResolverIF;
 import io.devnindo.datatype.util.Either;
+import io.devnindo.datatype.util.PackedReader;
+import io.devnindo.datatype.util.PackedWriter;
 import io.devnindo.datatype.validation.Violation;
+import io.devnindo.datatype.validation.ViolationSink;
 import io.devnindo.datatype.validation.violations.TypeViolations;
 
+import java.io.IOException;
+
 public class StringResolver implements SimpleTypeResolverIF<String> {
     @Override
     public Either<Violation, String> evalJsonVal(Object val) {
+        ViolationSink sink = new ViolationSink();
+        return sink.either(evalJsonVal(val, sink));
+    }
+
+    @Override
+    public String evalJsonVal(Object val, ViolationSink sink) {
         if (val instanceof String == false)
-            return Either.left(TypeViolations.STRING_TYPE);
-        return Either.right((String) val);
+            return sink.report(TypeViolations.STRING_TYPE);
+        return (String) val;
+    }
+
+    @Override
+    public void writeJson(String val, JsonGenerator generator) throws IOException {
+        generator.writeString(val);
+    }
+
+    @Override
+    public Either<Violation, String> readJson(JsonParser parser) throws IOException {
+        ViolationSink sink = new ViolationSink();
+        return sink.either(readJson(parser, sink));
+    }
+
+    @Override
+    public String readJson(JsonParser parser, ViolationSink sink) throws IOException {
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            parser.skipChildren();
+            return sink.report(TypeViolations.STRING_TYPE);
+        }
+        return parser.getText();
+    }
+
+    @Override
+    public String packedType() {
+        return "string";
+    }
+
+    @Override
+    public void writePacked(String val, PackedWriter out) {
+        out.writeString(val);
     }
-}
 
+    @Override
+    public Either<Violation, String> readPacked(PackedReader in) {
+        return Either.right(in.readString());
+    }
+
+    @Override
+    public String readPacked(PackedReader in, ViolationSink sink) {
+        return in.readString();
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Insertion ordered map for the few-keys objects JSON mostly consists of. Up to {@link #COMPACT_MAX} entries the keys
+ * and values sit side by side in one array and lookups are a linear scan, past that the map promotes itself to a
+ * {@link LinkedHashMap}. A compact entry costs two array slots instead of a hash node plus a table slot.
+ * <p>
+ * Not thread-safe, like {@link LinkedHashMap}.
+ */
+public final class CompactMap<V> extends AbstractMap<String, V> {
+    public static final int COMPACT_MAX = 12;
+    private static final Object[] EMPTY = {};
+
+    // k0, v0, k1, v1, ...; null once promoted
+    private Object[] table;
+    private int size;
+    private LinkedHashMap<String, V> promoted;
+    private int modCount;
+
+    public CompactMap() {
+        table = EMPTY;
+    }
+
+    /**
+     * @param expectedSize$ number of entries to make room for, beyond {@link #COMPACT_MAX} the map starts promoted
+     */
+    public CompactMap(int expectedSize$) {
+        if (expectedSize$ > COMPACT_MAX)
+            promoted = new LinkedHashMap<>(expectedSize$ * 4 / 3 + 1);
+        else
+            table = expectedSize$ == 0 ? EMPTY : new Object[expectedSize$ * 2];
+    }
+
+    @Override
+    public int size() {
+        return promoted != null ? promoted.size() : size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public V get(Object key) {
+        if (promoted != null)
+            return promoted.get(key);
+        int idx = indexOf(key);
+        return idx < 0 ? null : (V) table[idx + 1];
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (promoted != null)
+            return promoted.containsKey(key);
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public V put(String key, V value) {
+        if (promoted != null)
+            return promoted.put(key, value);
+        int idx = indexOf(key);
+        if (idx >= 0) {
+            V old = (V) table[idx + 1];
+            table[idx + 1] = value;
+            return old;
+        }
+        if (size == COMPACT_MAX) {
+            promote().put(key, value);
+            return null;
+        }
+        int slot = size * 2;
+        if (slot == table.length)
+            table = Arrays.copyOf(table, Math.min(Math.max(slot * 2, 4), COMPACT_MAX * 2));
+        table[slot] = key;
+        table[slot + 1] = value;
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public V remove(Object key) {
+        if (promoted != null)
+            return promoted.remove(key);
+        int idx = indexOf(key);
+        if (idx < 0)
+            return null;
+        V old = (V) table[idx + 1];
+        removeAt(idx);
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        promoted = null;
+        table = EMPTY;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super V> action) {
+        if (promoted != null) {
+            promoted.forEach(action);
+            return;
+        }
+        int expectedModCount = modCount;
+        for (int idx = 0; idx < size * 2; idx += 2) {
+            action.accept((String) table[idx], (V) table[idx + 1]);
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Set<Entry<String, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public int size() {
+                return CompactMap.this.size();
+            }
+
+            @Override
+            public Iterator<Entry<String, V>> iterator() {
+                if (promoted != null)
+                    return promoted.entrySet().iterator();
+                return new CompactIter<>() {
+                    @Override
+                    Entry<String, V> at(int idx) {
+                        return new CompactEntry(idx);
+                    }
+                };
+            }
+        };
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return new AbstractSet<>() {
+            @Override
+            public int size() {
+                return CompactMap.this.size();
+            }
+
+            @Override
+            public boolean contains(Object key) {
+                return containsKey(key);
+            }
+
+            @Override
+            public Iterator<String> iterator() {
+                if (promoted != null)
+                    return promoted.keySet().iterator();
+                return new CompactIter<>() {
+                    @Override
+                    String at(int idx) {
+                        return (String) table[idx];
+                    }
+                };
+            }
+        };
+    }
+
+    private int indexOf(Object key) {
+        Object[] tab = table;
+        for (int idx = 0; idx < size * 2; idx += 2) {
+            // parsed and literal keys are mostly interned, identity hits first
+            Object k = tab[idx];
+            if (k == key || (key != null && key.equals(k)))
+                return idx;
+        }
+        return -1;
+    }
+
+    private void removeAt(int idx) {
+        int tail = size * 2 - idx - 2;
+        if (tail > 0)
+            System.arraycopy(table, idx + 2, table, idx, tail);
+        size--;
+        table[size * 2] = null;
+        table[size * 2 + 1] = null;
+        modCount++;
+    }
+
+    private LinkedHashMap<String, V> promote() {
+        LinkedHashMap<String, V> map = new LinkedHashMap<>(COMPACT_MAX * 4);
+        for (int idx = 0; idx < size * 2; idx += 2)
+            map.put((String) table[idx], (V) table[idx + 1]);
+        promoted = map;
+        table = null;
+        size = 0;
+        modCount++;
+        return map;
+    }
+
+    private abstract class CompactIter<E> implements Iterator<E> {
+        private int next;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        abstract E at(int idx);
+
+        @Override
+        public boolean hasNext() {
+            // a promoting put empties the array, checked here so the loop does not just stop
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            return next < size * 2;
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (next >= size * 2)
+                throw new NoSuchElementException();
+            last = next;
+            next += 2;
+            return at(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0)
+                throw new IllegalStateException();
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            removeAt(last);
+            next = last;
+            last = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    private final class CompactEntry implements Entry<String, V> {
+        private final String key;
+        private V value;
+
+        private CompactEntry(int idx) {
+            key = (String) table[idx];
+            value = (V) table[idx + 1];
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public V setValue(V value$) {
+            V old = value;
+            value = value$;
+            put(key, value$);
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o instanceof Entry == false)
+                return false;
+            Entry<?, ?> other = (Entry<?, ?>) o;
+            return Objects.equals(key, other.getKey()) && Objects.equals(value, other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Growable list of {@code double} values backed by a {@code double[]}, for the {@code List<Double>} fields of beans
+ * holding many values. The {@code getDouble} / {@code addDouble} / {@code setDouble} methods take no boxing, the {@link List}
+ * methods box on the way in and out. Null items are rejected with a {@link NullPointerException}.
+ * <p>
+ * Not thread-safe, like {@link java.util.ArrayList}.
+ */
+public final class DoubleList extends AbstractList<Double> implements RandomAccess {
+    private static final double[] EMPTY = {};
+
+    private double[] values;
+    private int size;
+
+    public DoubleList() {
+        values = EMPTY;
+    }
+
+    /**
+     * @param capacity$ number of values to make room for
+     */
+    public DoubleList(int capacity$) {
+        values = capacity$ == 0 ? EMPTY : new double[capacity$];
+    }
+
+    public DoubleList(Collection<? extends Double> values$) {
+        this(values$.size());
+        for (Double val : values$)
+            addDouble(val);
+    }
+
+    /**
+     * a list holding a copy of {@code values$}
+     */
+    public static DoubleList of(double... values$) {
+        DoubleList list = new DoubleList();
+        list.values = values$.length == 0 ? EMPTY : values$.clone();
+        list.size = values$.length;
+        return list;
+    }
+
+    public double getDouble(int idx) {
+        Objects.checkIndex(idx, size);
+        return values[idx];
+    }
+
+    public double setDouble(int idx, double val) {
+        Objects.checkIndex(idx, size);
+        double old = values[idx];
+        values[idx] = val;
+        return old;
+    }
+
+    public void addDouble(double val) {
+        if (size == values.length)
+            grow();
+        values[size++] = val;
+        modCount++;
+    }
+
+    public double[] toDoubleArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Double get(int idx) {
+        return getDouble(idx);
+    }
+
+    @Override
+    public Double set(int idx, Double val) {
+        return setDouble(idx, val);
+    }
+
+    @Override
+    public boolean add(Double val) {
+        addDouble(val);
+        return true;
+    }
+
+    @Override
+    public void add(int idx, Double val) {
+        Objects.checkIndex(idx, size + 1);
+        double primVal = val;
+        if (size == values.length)
+            grow();
+        System.arraycopy(values, idx, values, idx + 1, size - idx);
+        values[idx] = primVal;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public Double remove(int idx) {
+        Objects.checkIndex(idx, size);
+        double old = values[idx];
+        System.arraycopy(values, idx + 1, values, idx, size - idx - 1);
+        size--;
+        modCount++;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof DoubleList == false)
+            return super.equals(obj);
+        DoubleList other = (DoubleList) obj;
+        return Arrays.equals(values, 0, size, other.values, 0, other.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int idx = 0; idx < size; idx++)
+            hash = 31 * hash + Double.hashCode(values[idx]);
+        return hash;
+    }
+
+    private void grow() {
+        values = Arrays.copyOf(values, Math.max(8, values.length + (values.length >> 1)));
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Growable list of {@code int} values backed by a {@code int[]}, for the {@code List<Integer>} fields of beans
+ * holding many values. The {@code getInt} / {@code addInt} / {@code setInt} methods take no boxing, the {@link List}
+ * methods box on the way in and out. Null items are rejected with a {@link NullPointerException}.
+ * <p>
+ * Not thread-safe, like {@link java.util.ArrayList}.
+ */
+public final class IntList extends AbstractList<Integer> implements RandomAccess {
+    private static final int[] EMPTY = {};
+
+    private int[] values;
+    private int size;
+
+    public IntList() {
+        values = EMPTY;
+    }
+
+    /**
+     * @param capacity$ number of values to make room for
+     */
+    public IntList(int capacity$) {
+        values = capacity$ == 0 ? EMPTY : new int[capacity$];
+    }
+
+    public IntList(Collection<? extends Integer> values$) {
+        this(values$.size());
+        for (Integer val : values$)
+            addInt(val);
+    }
+
+    /**
+     * a list holding a copy of {@code values$}
+     */
+    public static IntList of(int... values$) {
+        IntList list = new IntList();
+        list.values = values$.length == 0 ? EMPTY : values$.clone();
+        list.size = values$.length;
+        return list;
+    }
+
+    public int getInt(int idx) {
+        Objects.checkIndex(idx, size);
+        return values[idx];
+    }
+
+    public int setInt(int idx, int val) {
+        Objects.checkIndex(idx, size);
+        int old = values[idx];
+        values[idx] = val;
+        return old;
+    }
+
+    public void addInt(int val) {
+        if (size == values.length)
+            grow();
+        values[size++] = val;
+        modCount++;
+    }
+
+    public int[] toIntArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Integer get(int idx) {
+        return getInt(idx);
+    }
+
+    @Override
+    public Integer set(int idx, Integer val) {
+        return setInt(idx, val);
+    }
+
+    @Override
+    public boolean add(Integer val) {
+        addInt(val);
+        return true;
+    }
+
+    @Override
+    public void add(int idx, Integer val) {
+        Objects.checkIndex(idx, size + 1);
+        int primVal = val;
+        if (size == values.length)
+            grow();
+        System.arraycopy(values, idx, values, idx + 1, size - idx);
+        values[idx] = primVal;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public Integer remove(int idx) {
+        Objects.checkIndex(idx, size);
+        int old = values[idx];
+        System.arraycopy(values, idx + 1, values, idx, size - idx - 1);
+        size--;
+        modCount++;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof IntList == false)
+            return super.equals(obj);
+        IntList other = (IntList) obj;
+        return Arrays.equals(values, 0, size, other.values, 0, other.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int idx = 0; idx < size; idx++)
+            hash = 31 * hash + Integer.hashCode(values[idx]);
+        return hash;
+    }
+
+    private void grow() {
+        values = Arrays.copyOf(values, Math.max(8, values.length + (values.length >> 1)));
+    }
+}
@@ -79,8 +79,9 @@ public final class JsonUtil {
      * @return wrapped type or {@code val} if not applicable.
      */
     public static Object wrapJsonValue(Object val) {
-        if (val == null) {
-            return null;
+        if (val == null || val instanceof Json) {
+            // parsed trees already hold JsonObject and JsonArray
+            return val;
         }
 
         // perform wrapping
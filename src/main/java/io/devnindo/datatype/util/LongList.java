@@ -0,0 +1,156 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Growable list of {@code long} values backed by a {@code long[]}, for the {@code List<Long>} fields of beans
+ * holding many values. The {@code getLong} / {@code addLong} / {@code setLong} methods take no boxing, the {@link List}
+ * methods box on the way in and out. Null items are rejected with a {@link NullPointerException}.
+ * <p>
+ * Not thread-safe, like {@link java.util.ArrayList}.
+ */
+public final class LongList extends AbstractList<Long> implements RandomAccess {
+    private static final long[] EMPTY = {};
+
+    private long[] values;
+    private int size;
+
+    public LongList() {
+        values = EMPTY;
+    }
+
+    /**
+     * @param capacity$ number of values to make room for
+     */
+    public LongList(int capacity$) {
+        values = capacity$ == 0 ? EMPTY : new long[capacity$];
+    }
+
+    public LongList(Collection<? extends Long> values$) {
+        this(values$.size());
+        for (Long val : values$)
+            addLong(val);
+    }
+
+    /**
+     * a list holding a copy of {@code values$}
+     */
+    public static LongList of(long... values$) {
+        LongList list = new LongList();
+        list.values = values$.length == 0 ? EMPTY : values$.clone();
+        list.size = values$.length;
+        return list;
+    }
+
+    public long getLong(int idx) {
+        Objects.checkIndex(idx, size);
+        return values[idx];
+    }
+
+    public long setLong(int idx, long val) {
+        Objects.checkIndex(idx, size);
+        long old = values[idx];
+        values[idx] = val;
+        return old;
+    }
+
+    public void addLong(long val) {
+        if (size == values.length)
+            grow();
+        values[size++] = val;
+        modCount++;
+    }
+
+    public long[] toLongArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Long get(int idx) {
+        return getLong(idx);
+    }
+
+    @Override
+    public Long set(int idx, Long val) {
+        return setLong(idx, val);
+    }
+
+    @Override
+    public boolean add(Long val) {
+        addLong(val);
+        return true;
+    }
+
+    @Override
+    public void add(int idx, Long val) {
+        Objects.checkIndex(idx, size + 1);
+        long primVal = val;
+        if (size == values.length)
+            grow();
+        System.arraycopy(values, idx, values, idx + 1, size - idx);
+        values[idx] = primVal;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public Long remove(int idx) {
+        Objects.checkIndex(idx, size);
+        long old = values[idx];
+        System.arraycopy(values, idx + 1, values, idx, size - idx - 1);
+        size--;
+        modCount++;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof LongList == false)
+            return super.equals(obj);
+        LongList other = (LongList) obj;
+        return Arrays.equals(values, 0, size, other.values, 0, other.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int idx = 0; idx < size; idx++)
+            hash = 31 * hash + Long.hashCode(values[idx]);
+        return hash;
+    }
+
+    private void grow() {
+        values = Arrays.copyOf(values, Math.max(8, values.length + (values.length >> 1)));
+    }
+}
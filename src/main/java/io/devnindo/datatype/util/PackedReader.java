@@ -0,0 +1,179 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.util;
+
+import io.devnindo.datatype.json.DecodeException;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads the values written by {@link PackedWriter} from a slice of a byte array, the array is not copied.
+ * Truncated or malformed input raises {@link DecodeException}.
+ * <p>
+ * Not thread-safe.
+ */
+public final class PackedReader {
+    private final byte[] buf;
+    private final int limit;
+    private int pos;
+
+    public PackedReader(byte[] buf$) {
+        this(buf$, 0, buf$.length);
+    }
+
+    public PackedReader(byte[] buf$, int offset$, int len$) {
+        if (offset$ < 0 || len$ < 0 || offset$ + len$ > buf$.length)
+            throw new IndexOutOfBoundsException("offset " + offset$ + ", length " + len$ + ", size " + buf$.length);
+        buf = buf$;
+        pos = offset$;
+        limit = offset$ + len$;
+    }
+
+    public int remaining() {
+        return limit - pos;
+    }
+
+    public int readByte() {
+        require(1);
+        return buf[pos++] & 0xFF;
+    }
+
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    public int readUnsignedVarInt() {
+        int val = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = readByte();
+            val |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return val;
+        }
+        throw new DecodeException("Malformed varint at " + pos);
+    }
+
+    /**
+     * an item count written by {@link PackedWriter#writeUnsignedVarInt(int)}, rejected if negative or if
+     * {@code minItemBytes} per item do not fit the remaining bytes, before anything is allocated for it
+     */
+    public int readCount(int minItemBytes) {
+        int count = readUnsignedVarInt();
+        if (count < 0 || (long) count * minItemBytes > remaining())
+            throw new DecodeException("Malformed count " + Integer.toUnsignedString(count) + " at " + pos);
+        return count;
+    }
+
+    public long readUnsignedVarLong() {
+        long val = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            val |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return val;
+        }
+        throw new DecodeException("Malformed varlong at " + pos);
+    }
+
+    public int readVarInt() {
+        int val = readUnsignedVarInt();
+        return (val >>> 1) ^ -(val & 1);
+    }
+
+    public long readVarLong() {
+        long val = readUnsignedVarLong();
+        return (val >>> 1) ^ -(val & 1);
+    }
+
+    public double readDouble() {
+        return Double.longBitsToDouble(readLong());
+    }
+
+    public long readLong() {
+        require(8);
+        long val = 0;
+        for (int idx = 0; idx < 8; idx++)
+            val = (val << 8) | (buf[pos++] & 0xFF);
+        return val;
+    }
+
+    public void skip(int len) {
+        require(len);
+        pos += len;
+    }
+
+    /**
+     * skip a length-prefixed string or byte array
+     */
+    public void skipBytes() {
+        int len = readLength();
+        pos += len;
+    }
+
+    /**
+     * bit {@code idx} of the result is {@code result[idx >>> 6] & (1L << idx)}
+     */
+    public long[] readBitmap(int count) {
+        if (count < 0)
+            throw new DecodeException("Malformed bitmap size " + count + " at " + pos);
+        require((count + 7) >>> 3);
+        long[] bits = new long[(count + 63) >>> 6];
+        for (int idx = 0; idx < count; idx += 8)
+            bits[idx >>> 6] |= (buf[pos++] & 0xFFL) << (idx & 63);
+        return bits;
+    }
+
+    /**
+     * {@link #readBitmap(int)} of at most 64 bits as a single word, without the array
+     */
+    public long readBitmapWord(int count) {
+        if (count > 64)
+            throw new IllegalArgumentException("Bitmap of " + count + " bits does not fit a word");
+        require((count + 7) >>> 3);
+        long bits = 0;
+        for (int idx = 0; idx < count; idx += 8)
+            bits |= (buf[pos++] & 0xFFL) << idx;
+        return bits;
+    }
+
+    public byte[] readBytes() {
+        int len = readLength();
+        byte[] val = new byte[len];
+        System.arraycopy(buf, pos, val, 0, len);
+        pos += len;
+        return val;
+    }
+
+    public String readString() {
+        int len = readLength();
+        String val = new String(buf, pos, len, StandardCharsets.UTF_8);
+        pos += len;
+        return val;
+    }
+
+    private int readLength() {
+        int len = readUnsignedVarInt();
+        if (len < 0)
+            throw new DecodeException("Malformed length at " + pos);
+        require(len);
+        return len;
+    }
+
+    private void require(int len) {
+        if (limit - pos < len)
+            throw new DecodeException("Unexpected end of packed data at " + pos);
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Growable byte sink of the packed bean format, see {@link io.devnindo.datatype.schema.BeanSchema#toPacked}.
+ * Ints and longs are zigzag varints, strings and byte arrays are prefixed by their length, doubles are 8 bytes
+ * big-endian. {@link PackedReader} reads the values back in the same order.
+ * <p>
+ * Not thread-safe.
+ */
+public final class PackedWriter {
+    private byte[] buf;
+    private int size;
+
+    public PackedWriter() {
+        this(64);
+    }
+
+    public PackedWriter(int capacity$) {
+        buf = new byte[Math.max(capacity$, 16)];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buf, size);
+    }
+
+    public void reset() {
+        size = 0;
+    }
+
+    public void writeByte(int val) {
+        ensure(1);
+        buf[size++] = (byte) val;
+    }
+
+    public void writeBoolean(boolean val) {
+        writeByte(val ? 1 : 0);
+    }
+
+    /**
+     * unsigned LEB128, for lengths, counts and ordinals
+     */
+    public void writeUnsignedVarInt(int val) {
+        ensure(5);
+        while ((val & ~0x7F) != 0) {
+            buf[size++] = (byte) ((val & 0x7F) | 0x80);
+            val >>>= 7;
+        }
+        buf[size++] = (byte) val;
+    }
+
+    public void writeUnsignedVarLong(long val) {
+        ensure(10);
+        while ((val & ~0x7FL) != 0) {
+            buf[size++] = (byte) ((val & 0x7F) | 0x80);
+            val >>>= 7;
+        }
+        buf[size++] = (byte) val;
+    }
+
+    /**
+     * zigzag varint, small negative values stay short
+     */
+    public void writeVarInt(int val) {
+        writeUnsignedVarInt((val << 1) ^ (val >> 31));
+    }
+
+    public void writeVarLong(long val) {
+        writeUnsignedVarLong((val << 1) ^ (val >> 63));
+    }
+
+    public void writeDouble(double val) {
+        writeLong(Double.doubleToRawLongBits(val));
+    }
+
+    /**
+     * 8 bytes big-endian, for hashes and fingerprints that would not shrink as a varint
+     */
+    public void writeLong(long val) {
+        ensure(8);
+        for (int shift = 56; shift >= 0; shift -= 8)
+            buf[size++] = (byte) (val >>> shift);
+    }
+
+    public void writeBytes(byte[] val) {
+        writeBytes(val, 0, val.length);
+    }
+
+    public void writeBytes(byte[] val, int offset, int len) {
+        writeUnsignedVarInt(len);
+        ensure(len);
+        System.arraycopy(val, offset, buf, size, len);
+        size += len;
+    }
+
+    /**
+     * the low {@code count} bits of {@code bits} in {@code (count + 7) / 8} bytes, as kept by
+     * {@link PackedReader#readBitmap(int)}
+     */
+    public void writeBitmap(long[] bits, int count) {
+        ensure((count + 7) >>> 3);
+        for (int idx = 0; idx < count; idx += 8)
+            buf[size++] = (byte) (bits[idx >>> 6] >>> (idx & 63));
+    }
+
+    /**
+     * UTF-8 prefixed by its byte length, ASCII strings are copied without an intermediate byte[]
+     */
+    public void writeString(String val) {
+        int len = val.length();
+        for (int idx = 0; idx < len; idx++) {
+            if (val.charAt(idx) >= 0x80) {
+                writeBytes(val.getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+        }
+        writeUnsignedVarInt(len);
+        ensure(len);
+        for (int idx = 0; idx < len; idx++)
+            buf[size++] = (byte) val.charAt(idx);
+    }
+
+    private void ensure(int extra) {
+        if (size + extra > buf.length)
+            buf = Arrays.copyOf(buf, Math.max(buf.length << 1, size + extra));
+    }
+}
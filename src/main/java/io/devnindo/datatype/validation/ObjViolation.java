@@ -42,6 +42,11 @@ public class ObjViolation<D extends DataBean> extends Violation<JsonObject> {
         return this;
     }
 
+    public ObjViolation add(SchemaField<D, ?> f$, Violation violation$) {
+        ctxData.put(f$.name, violation$);
+        return this;
+    }
+
 
 }
 
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2023 devnindo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.devnindo.datatype.validation;
+
+import io.devnindo.datatype.util.Either;
+
+/**
+ * Receives the violations of a sink decode, see {@link io.devnindo.datatype.schema.typeresolver.TypeResolver#readJson(com.fasterxml.jackson.core.JsonParser, ViolationSink)}.
+ * A sink decode returns its value directly and reports a failure here, instead of wrapping either in an {@link Either}.
+ * The caller takes the violation right after each value, so one sink serves a whole decode, nested beans included.
+ * <p>
+ * A sink may carry a violation budget. Once as many violations are reported as the budget allows, the sink is
+ * exhausted and decoders stop evaluating further fields, skipping the rest of their input. The result is then
+ * a partial violation, enough to reject the input. {@link #failFast()} stops at the first violation.
+ * <p>
+ * Not thread-safe, a sink belongs to one decode at a time.
+ */
+public final class ViolationSink {
+    private final int maxViolations;
+    private int reportedCount;
+    private Violation violation;
+
+    /**
+     * a sink without a violation budget, every field is evaluated
+     */
+    public ViolationSink() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param maxViolations$ number of violations after which decoders stop
+     */
+    public ViolationSink(int maxViolations$) {
+        if (maxViolations$ < 1)
+            throw new IllegalArgumentException("Violation budget must be at least 1: " + maxViolations$);
+        maxViolations = maxViolations$;
+    }
+
+    /**
+     * a sink exhausted by the first violation
+     */
+    public static ViolationSink failFast() {
+        return new ViolationSink(1);
+    }
+
+    /**
+     * record {@code violation$} for the value being decoded, it counts against the budget
+     *
+     * @return null, for decoders to return in one statement
+     */
+    public <T> T report(Violation violation$) {
+        reportedCount++;
+        violation = violation$;
+        return null;
+    }
+
+    /**
+     * record {@code violation$} wrapping violations reported before, as the violation of a bean wraps those of its
+     * fields; it does not count against the budget again
+     *
+     * @return null, for decoders to return in one statement
+     */
+    public <T> T forward(Violation violation$) {
+        violation = violation$;
+        return null;
+    }
+
+    public boolean hasViolation() {
+        return violation != null;
+    }
+
+    /**
+     * true once the budget is used up, decoders check it after taking a violation
+     */
+    public boolean isExhausted() {
+        return reportedCount >= maxViolations;
+    }
+
+    /**
+     * number of violations reported since creation or the last {@link #reset()}
+     */
+    public int reportedCount() {
+        return reportedCount;
+    }
+
+    /**
+     * empty the sink and restore its budget, for reuse by the next decode
+     */
+    public void reset() {
+        reportedCount = 0;
+        violation = null;
+    }
+
+    /**
+     * the reported violation or null, the sink is empty afterwards
+     */
+    public Violation take() {
+        Violation taken = violation;
+        violation = null;
+        return taken;
+    }
+
+    /**
+     * {@code val$} as an {@link Either}, left with the reported violation if there is one
+     */
+    public <T> Either<Violation, T> either(T val$) {
+        Violation taken = take();
+        return taken != null ? Either.left(taken) : Either.right(val$);
+    }
+}
@@ -25,6 +25,7 @@ public class TypeViolations {
     public static final Violation LONG_TYPE = Violation.withCtx(TYPE_CONSTRAINT, "LONG_STRING");
     public static final Violation BOOLEAN_TYPE = Violation.withCtx(TYPE_CONSTRAINT, "Boolean");
     public static final Violation DOUBLE_TYPE = Violation.withCtx(TYPE_CONSTRAINT, "Double");
+    public static final Violation BINARY_TYPE = Violation.withCtx(TYPE_CONSTRAINT, "Binary[base64url]");
     public static final Violation INSTANT_UTC_TYPE = Violation.withCtx(TYPE_CONSTRAINT, "Instant UTC[YYYY-MM-DDTHH:MM:ss.SSSZ]");
     public static final Violation JSON_OBJ_TYPE = Violation.withCtx(TYPE_CONSTRAINT, "JsonObject");
     public static final Violation JSON_ARR_TYPE = Violation.withCtx(TYPE_CONSTRAINT, "JsonArray");
@@ -51,6 +52,16 @@ public class TypeViolations {
         return Violation.withCtx("BEAN_LIST_TYPE", data);
     }
 
+    // every non null slot of itemViolations, in index order
+    public static final Violation validBeanItems(Violation[] itemViolations) {
+
+        JsonObject data = new JsonObject();
+        for (int idx = 0; idx < itemViolations.length; idx++)
+            if (itemViolations[idx] != null)
+                data.put("idx-" + idx, itemViolations[idx]);
+        return Violation.withCtx("BEAN_LIST_TYPE", data);
+    }
+
     public static final Violation beanType(Class<?> plainType) {
         return Violation.withCtx("BEAN_TYPE", plainType.getSimpleName());
     }
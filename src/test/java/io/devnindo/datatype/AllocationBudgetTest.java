@@ -0,0 +1,124 @@
+package io.devnindo.datatype;
+
+import io.devnindo.datatype.beanexample.$APerson;
+import io.devnindo.datatype.beanexample.ANote;
+import io.devnindo.datatype.beanexample.APerson;
+import io.devnindo.datatype.beanexample.DataSample;
+import io.devnindo.datatype.beanexample.Gender;
+import io.devnindo.datatype.json.JsonObject;
+import io.devnindo.datatype.schema.BeanSchema;
+import io.devnindo.datatype.schema.BeanValidator;
+import io.devnindo.datatype.validation.ViolationSink;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+import static io.devnindo.datatype.validation.validators.ValueRules.equal;
+import static io.devnindo.datatype.validation.validators.ValueRules.gtThan;
+
+/**
+ * Bytes allocated per operation on the hot paths, checked against the budgets of allocation-budget.properties.
+ * An operation is warmed up for the JIT, then measured in a few rounds on the current thread, the least allocating
+ * round counts. Raise a budget deliberately, along with the change that needs it.
+ */
+public class AllocationBudgetTest {
+    private static final int WARMUP_OPS = 50_000;
+    private static final int ROUND_OPS = 5_000;
+    private static final int ROUNDS = 5;
+
+    private static com.sun.management.ThreadMXBean threadBean;
+    private static Properties budgets;
+
+    @BeforeAll
+    public static void setup() throws IOException {
+        threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        budgets = new Properties();
+        try (InputStream in = AllocationBudgetTest.class.getResourceAsStream("allocation-budget.properties")) {
+            budgets.load(in);
+        }
+    }
+
+    private static long bytesPerOp(Supplier<?> op) {
+        Assumptions.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().getId();
+        Object sink = null;
+        for (int idx = 0; idx < WARMUP_OPS; idx++)
+            sink = op.get();
+
+        long least = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = threadBean.getThreadAllocatedBytes(threadId);
+            for (int idx = 0; idx < ROUND_OPS; idx++)
+                sink = op.get();
+            least = Math.min(least, threadBean.getThreadAllocatedBytes(threadId) - start);
+        }
+        Assertions.assertNotNull(sink);
+        return least / ROUND_OPS;
+    }
+
+    private static void assertBudget(String opName, Supplier<?> op) {
+        long budget = Long.parseLong(budgets.getProperty(opName));
+        long allocated = bytesPerOp(op);
+        Assertions.assertTrue(allocated <= budget, opName + " allocates " + allocated + " B/op over its budget of " + budget);
+    }
+
+    @Test
+    public void person_decode_budget() {
+        BeanSchema<APerson> schema = BeanSchema.forClass(APerson.class);
+        JsonObject personJS = DataSample.person();
+        byte[] personData = personJS.toByteData();
+
+        assertBudget("person.fromJson", () -> schema.apply(personJS));
+        assertBudget("person.fromByteData", () -> schema.fromByteData(personData));
+    }
+
+    @Test
+    public void generated_schema_decode_budget() {
+        // no mutators in the schema, the decoders derive them
+        BeanSchema<ANote> schema = BeanSchema.forClass(ANote.class);
+        JsonObject noteJS = new JsonObject().put("title", "draft").put("body", "text");
+        byte[] noteData = noteJS.toByteData();
+
+        assertBudget("note.fromJson", () -> schema.apply(noteJS, new ViolationSink()));
+        assertBudget("note.fromByteData", () -> schema.fromByteData(noteData));
+    }
+
+    @Test
+    public void person_encode_budget() {
+        APerson person = DataSample.person().toBean(APerson.class);
+
+        assertBudget("person.toJson", person::toJson);
+        assertBudget("person.toByteData", person::toByteData);
+    }
+
+    @Test
+    public void person_validation_budget() {
+        APerson person = DataSample.person().toBean(APerson.class);
+        BeanValidator<APerson> pensionEligibility = BeanValidator.create("FEMALE_PENSION_ELIGIBLE", APerson.class, $ -> {
+            $.required($APerson.AGE).and(gtThan(50));
+            $.required($APerson.GENDER).and(equal(Gender.female));
+        });
+
+        assertBudget("person.validate", () -> pensionEligibility.apply(person));
+    }
+
+    @Test
+    public void nested_get_value_budget() {
+        // decoded, so the nested object is held as a map
+        JsonObject personJS = new JsonObject(DataSample.person().toByteData());
+
+        assertBudget("json.nestedGetValue", () -> personJS.getJsonObject("employer").getValue("age"));
+
+        // the nested lazy object is decoded on the first access and kept wrapped
+        JsonObject lazyJS = JsonObject.lazy(DataSample.person().toByteData());
+        assertBudget("json.lazyNestedGetValue", () -> lazyJS.getJsonObject("employer").getValue("age"));
+    }
+}
@@ -0,0 +1,67 @@
+package io.devnindo.datatype;
+
+import io.devnindo.datatype.beanexample.APerson;
+import io.devnindo.datatype.beanexample.AnEmployee;
+import io.devnindo.datatype.json.JsonObject;
+import io.devnindo.datatype.schema.BeanGenerator;
+import io.devnindo.datatype.schema.BeanGenerator.SizeDistribution;
+import io.devnindo.datatype.schema.BeanSchema;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+public class BeanGeneratorTest {
+
+    @Test
+    public void same_seed_same_documents() {
+        BeanGenerator generator = BeanGenerator.create(42);
+        BeanGenerator sameGenerator = BeanGenerator.create(42);
+        BeanGenerator otherGenerator = BeanGenerator.create(43);
+        boolean anyDiffers = false;
+        for (int idx = 0; idx < 100; idx++) {
+            String encoded = generator.nextJson(AnEmployee.class).encode();
+            Assertions.assertEquals(encoded, sameGenerator.nextJson(AnEmployee.class).encode());
+            anyDiffers |= encoded.equals(otherGenerator.nextJson(AnEmployee.class).encode()) == false;
+        }
+        Assertions.assertTrue(anyDiffers);
+    }
+
+    @Test
+    public void generated_documents_decode_within_configured_sizes() {
+        BeanGenerator generator = BeanGenerator.create(7, $ -> $
+                .listLength(SizeDistribution.fixed(3))
+                .stringLength(SizeDistribution.uniform(2, 5))
+                .maxDepth(1)
+                .nullRatio(0));
+        BeanSchema<AnEmployee> schema = BeanSchema.forClass(AnEmployee.class);
+        for (int idx = 0; idx < 200; idx++) {
+            JsonObject employeeJS = new JsonObject(generator.nextJson(AnEmployee.class).toByteData());
+            Assertions.assertTrue(schema.apply(employeeJS).isRight(), employeeJS::encode);
+
+            Assertions.assertEquals(3, employeeJS.getJsonArray("project_id_list").size());
+            Assertions.assertEquals(3, employeeJS.getJsonArray("address_list").size());
+            String city = employeeJS.getJsonArray("address_list").getJsonObject(0).getString("city");
+            Assertions.assertTrue(city.length() >= 2 && city.length() <= 5);
+            // one level of nesting, the manager has no manager nor employer of its own
+            JsonObject managerJS = employeeJS.getJsonObject("manager");
+            Assertions.assertNotNull(managerJS.getValue("age"));
+            Assertions.assertNull(managerJS.getValue("employer"));
+        }
+
+        AnEmployee employee = BeanGenerator.create(7, $ -> $.nullRatio(1).maxDepth(0)).nextBean(AnEmployee.class);
+        Assertions.assertNotNull(employee.getAge());
+        Assertions.assertNull(employee.getManager());
+    }
+
+    @Test
+    public void writes_ndjson() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BeanGenerator.create(1).writeNdjson(APerson.class, 500, out);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        Assertions.assertEquals(500, lines.length);
+        for (String line : lines)
+            Assertions.assertTrue(new JsonObject(line).toBeanEither(APerson.class).isRight(), line);
+    }
+}
@@ -1,17 +1,39 @@
 package io.devnindo.datatype;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.devnindo.datatype.beanexample.$APerson;
+import io.devnindo.datatype.beanexample.$AnEmployee;
+import io.devnindo.datatype.beanexample.ANote;
 import io.devnindo.datatype.beanexample.APerson;
 import io.devnindo.datatype.beanexample.Address;
+import io.devnindo.datatype.beanexample.AnEmployee;
 import io.devnindo.datatype.beanexample.DataSample;
+import io.devnindo.datatype.json.DecodeException;
+import io.devnindo.datatype.json.JsonArray;
 import io.devnindo.datatype.json.JsonObject;
 import io.devnindo.datatype.schema.BeanSchema;
+import io.devnindo.datatype.schema.DataBean;
+import io.devnindo.datatype.schema.PackedLayout;
+import io.devnindo.datatype.schema.typeresolver.TypeResolver;
+import io.devnindo.datatype.schema.typeresolver.TypeResolverFactory;
 import io.devnindo.datatype.util.Either;
+import io.devnindo.datatype.util.PackedReader;
+import io.devnindo.datatype.util.PackedWriter;
 import io.devnindo.datatype.validation.ObjViolation;
 import io.devnindo.datatype.validation.Violation;
+import io.devnindo.datatype.validation.ViolationSink;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 public class BeanTest {
     @Test
@@ -78,4 +100,255 @@ public class BeanTest {
         Assertions.assertEquals("Gender{ male, female, unknown }", genderCtx.getString("ctx"));
 
     }
+
+    @Test
+    public void streaming_decode_same_as_tree_decode() {
+        JsonObject employeeJS = DataSample.employee()
+                .put("unknown_field", new JsonObject().put("skip", new JsonArray().add(1).add("two")));
+        Either<Violation, AnEmployee> treeEither = employeeJS.toBeanEither(AnEmployee.class);
+        Either<Violation, AnEmployee> streamEither = BeanSchema.of(AnEmployee.class).fromByteData(employeeJS.toByteData());
+
+        Assertions.assertTrue(streamEither.isRight());
+        Assertions.assertEquals(treeEither.right().toJson().encode(), streamEither.right().toJson().encode());
+        Assertions.assertEquals(100, streamEither.right().getSalary());
+        Assertions.assertEquals(2, streamEither.right().getAddressList().size());
+    }
+
+    @Test
+    public void streaming_decode_same_violations_as_tree_decode() {
+        List<JsonObject> invalidList = List.of(
+                DataSample.invalidPersonAgeType(),
+                DataSample.missingPersonId(),
+                DataSample.personMissingAgeAndGender(),
+                DataSample.person().put("address_list", DataSample.invalidAddressArr()),
+                DataSample.person().put("employer", new JsonObject().put("age", 12)),
+                DataSample.person().put("address_list", new JsonArray().add(new JsonObject()).add(42))
+        );
+
+        for (JsonObject personJS : invalidList) {
+            Either<Violation, APerson> treeEither = personJS.toBeanEither(APerson.class);
+            Either<Violation, APerson> streamEither = BeanSchema.of(APerson.class).fromByteData(personJS.toByteData());
+
+            Assertions.assertTrue(streamEither.isLeft(), personJS.encode());
+            Assertions.assertEquals(treeEither.left().toJson(), streamEither.left().toJson(), personJS.encode());
+        }
+    }
+
+    @Test
+    public void streaming_decode_rejects_non_object() {
+        Assertions.assertThrows(DecodeException.class,
+                () -> BeanSchema.of(APerson.class).fromByteData("[1, 2]".getBytes()));
+        Assertions.assertThrows(DecodeException.class,
+                () -> BeanSchema.of(APerson.class).fromByteData("{\"id\": 1} {}".getBytes()));
+    }
+
+    @Test
+    public void packed_round_trip_same_as_json() {
+        BeanSchema<AnEmployee> schema = BeanSchema.of(AnEmployee.class);
+        AnEmployee employee = DataSample.employee().toBean(AnEmployee.class);
+        AnEmployee sparse = new JsonObject().put("id", -7L).put("age", 30).toBean(AnEmployee.class);
+
+        for (AnEmployee bean : List.of(employee, sparse)) {
+            byte[] packed = schema.toPacked(bean);
+            Either<Violation, AnEmployee> packedEither = schema.fromPacked(packed);
+            Assertions.assertTrue(packedEither.isRight());
+            Assertions.assertEquals(bean.toJson().encode(), packedEither.right().toJson().encode());
+            Assertions.assertTrue(packed.length < bean.toByteData().length);
+        }
+
+        // a slice of a larger buffer
+        byte[] packed = schema.toPacked(employee);
+        byte[] framed = new byte[packed.length + 6];
+        System.arraycopy(packed, 0, framed, 3, packed.length);
+        Assertions.assertEquals(employee.toJson().encode(),
+                schema.fromPacked(framed, 3, packed.length).right().toJson().encode());
+    }
+
+    @Test
+    public void schema_fields_keep_textual_order() {
+        List<String> nameList = new ArrayList<>();
+        BeanSchema.forClass(AnEmployee.class).fields().forEach(field -> nameList.add(field.name));
+        Assertions.assertEquals(List.of("retire", "gender", "address_list", "manager", "employer", "id", "age",
+                "salary", "project_id_list", "score_list"), nameList);
+    }
+
+    @Test
+    public void hostile_packed_counts_fail_to_decode() {
+        byte[][] hostileCounts = {
+                {(byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x07},
+                {(byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x0f},
+                {(byte) 0x80, (byte) 0x80, 0x01, 0x00}
+        };
+        List<TypeResolver<?>> listResolvers = List.of(
+                TypeResolverFactory.beanList(Address.class), TypeResolverFactory.plainDataList(String.class));
+        for (byte[] data : hostileCounts) {
+            for (TypeResolver<?> resolver : listResolvers)
+                Assertions.assertThrows(DecodeException.class, () -> resolver.readPacked(new PackedReader(data)));
+            Assertions.assertThrows(DecodeException.class, () -> new PackedReader(data).readCount(1));
+        }
+    }
+
+    @Test
+    public void packed_decode_violations_and_errors() {
+        BeanSchema<APerson> schema = BeanSchema.of(APerson.class);
+        APerson noAge = DataSample.person().toBean(APerson.class).setAge(null);
+        Either<Violation, APerson> jsonEither = schema.fromByteData(noAge.toByteData());
+        Either<Violation, APerson> packedEither = schema.fromPacked(schema.toPacked(noAge));
+        Assertions.assertTrue(packedEither.isLeft());
+        Assertions.assertEquals(jsonEither.left().toJson(), packedEither.left().toJson());
+
+        byte[] packed = schema.toPacked(DataSample.person().toBean(APerson.class));
+        Assertions.assertThrows(DecodeException.class,
+                () -> schema.fromPacked(packed, 0, packed.length - 1));
+        Assertions.assertThrows(DecodeException.class,
+                () -> schema.fromPacked(Arrays.copyOf(packed, packed.length + 1)));
+        byte[] unknownLayout = packed.clone();
+        unknownLayout[0] ^= 0x5A;
+        Assertions.assertThrows(DecodeException.class, () -> schema.fromPacked(unknownLayout));
+        // the miss is not retried with another schema sweep, it fails the same way
+        Assertions.assertThrows(DecodeException.class, () -> schema.fromPacked(unknownLayout));
+
+        // an Address read as APerson shares no field, the required ones are missing
+        Address address = DataSample.anAddressJS().toBean(Address.class);
+        Either<Violation, APerson> mismatchEither = schema.fromPacked(BeanSchema.of(Address.class).toPacked(address));
+        Assertions.assertTrue(mismatchEither.isLeft());
+        Assertions.assertEquals(Set.of("id", "age"), mismatchEither.left().getVarCtx().fieldNames());
+    }
+
+    @Test
+    public void packed_decode_across_layout_versions() {
+        BeanSchema<Address> schema = BeanSchema.of(Address.class);
+        PackedLayout current = schema.packedLayout();
+        Assertions.assertEquals(current.fingerprint, PackedLayout.fromJson(current.toJson()).fingerprint);
+        JsonObject requiredCity = current.toJson();
+        requiredCity.getJsonArray("fields").getJsonObject(0).put("required", true);
+        Assertions.assertNotEquals(current.fingerprint, PackedLayout.fromJson(requiredCity).fingerprint);
+
+        // an older Address: without road_list, with a zip, an owner and tags dropped since
+        PackedLayout older = PackedLayout.fromJson(new JsonObject().put("fields", new JsonArray()
+                .add(layoutField("zip", "int", true))
+                .add(layoutField("city", "string", false))
+                .add(layoutField("owner", "bean", false))
+                .add(layoutField("tags", "list<string>", false))));
+        PackedWriter out = new PackedWriter();
+        out.writeLong(older.fingerprint);
+        out.writeBitmap(new long[]{0b1111}, 4);
+        out.writeVarInt(1207);
+        out.writeString("Dhaka");
+        BeanSchema.of(APerson.class).writePacked(DataSample.person().toBean(APerson.class), out);
+        out.writeUnsignedVarInt(2);
+        out.writeBitmap(new long[]{0b01}, 2);
+        out.writeString("tag");
+        byte[] olderData = out.toByteArray();
+
+        Assertions.assertThrows(DecodeException.class, () -> schema.fromPacked(olderData));
+        PackedLayout.register(older);
+        for (int round = 0; round < 2; round++) {
+            Address address = schema.fromPacked(olderData).right();
+            Assertions.assertEquals("Dhaka", address.getCity());
+            Assertions.assertNull(address.getRoadList());
+        }
+    }
+
+    private static JsonObject layoutField(String name, String type, boolean required) {
+        return new JsonObject().put("name", name).put("type", type).put("required", required);
+    }
+
+    @Test
+    public void schema_index_lists_generated_schemas() throws IOException {
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream("META-INF/devnindo/schema.index")) {
+            Assertions.assertNotNull(in);
+            String index = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            Assertions.assertTrue(index.contains("io.devnindo.datatype.beanexample.$APerson\n"));
+            Assertions.assertTrue(index.contains("io.devnindo.datatype.beanexample.$Address\n"));
+            Assertions.assertTrue(index.contains("io.devnindo.datatype.beanexample.$AnEmployee\n"));
+        }
+        Assertions.assertNotNull(BeanSchema.of(AnEmployee.class.getName()));
+        Assertions.assertTrue(BeanSchema.preloadAll() >= 3);
+    }
+
+    @Test
+    public void schema_lookup_by_class_is_memoized() {
+        BeanSchema<APerson> schema = BeanSchema.forClass(APerson.class);
+        Assertions.assertSame(schema, BeanSchema.forClass(APerson.class));
+        Assertions.assertSame(schema, BeanSchema.of(APerson.class.getName()));
+        Assertions.assertSame(schema, BeanSchema.forClass(new APerson().getClass()));
+
+        DataBean noSchema = new DataBean() {};
+        Assertions.assertThrows(IllegalStateException.class, () -> BeanSchema.forClass(noSchema.getClass()));
+        Assertions.assertThrows(IllegalStateException.class, () -> BeanSchema.of("io.devnindo.datatype.NoSuchBean"));
+    }
+
+    @Test
+    public void mutators_derived_from_bean_fields_and_setters() {
+        // a schema as generated, without mutators
+        BeanSchema<ANote> schema = BeanSchema.of(ANote.class);
+        JsonObject noteJS = new JsonObject().put("title", "draft").put("body", "text");
+
+        ANote note = schema.fromByteData(noteJS.toByteData()).right();
+        Assertions.assertEquals("draft", note.getTitle());
+        Assertions.assertEquals("text", note.getBody());
+        Assertions.assertEquals("text", schema.apply(noteJS, new ViolationSink()).getBody());
+        Assertions.assertEquals("text", schema.fromPacked(schema.toPacked(note)).right().getBody());
+
+        JsonObject noBody = new JsonObject().put("title", "draft");
+        Assertions.assertTrue(schema.fromByteData(noBody.toByteData()).isLeft());
+        ViolationSink sink = new ViolationSink();
+        Assertions.assertNull(schema.apply(noBody, sink));
+        Assertions.assertTrue(sink.hasViolation());
+
+        // setAge and setSalary are fluent, the computed retire is not read back, as in the generated apply
+        BeanSchema<AnEmployee> employeeSchema = BeanSchema.of(AnEmployee.class);
+        JsonObject employeeJS = DataSample.employee().put("retire", "not a boolean");
+        AnEmployee employee = employeeSchema.fromByteData(employeeJS.toByteData()).right();
+        Assertions.assertEquals(new $AnEmployee().apply(employeeJS).right().toJson().encode(), employee.toJson().encode());
+        Assertions.assertEquals(100, employee.getSalary());
+    }
+
+    @Test
+    public void sink_decode_reports_violation_only_on_failure() {
+        BeanSchema<APerson> schema = BeanSchema.forClass(APerson.class);
+        $APerson generated = new $APerson();
+        ViolationSink sink = new ViolationSink();
+
+        APerson bean = schema.apply(DataSample.person(), sink);
+        Assertions.assertNotNull(bean);
+        Assertions.assertFalse(sink.hasViolation());
+        Assertions.assertEquals(generated.apply(DataSample.person()).right().toJson().encode(), bean.toJson().encode());
+
+        Assertions.assertNull(schema.apply(DataSample.missingPersonId(), sink));
+        Violation violation = sink.take();
+        Assertions.assertEquals(generated.apply(DataSample.missingPersonId()).left().toJson(), violation.toJson());
+        Assertions.assertFalse(sink.hasViolation());
+
+        byte[] packed = schema.toPacked(bean);
+        Assertions.assertEquals(bean.toJson().encode(), schema.readPacked(new PackedReader(packed), sink).toJson().encode());
+        Assertions.assertFalse(sink.hasViolation());
+    }
+
+    @Test
+    public void violation_budget_stops_decode() throws IOException {
+        BeanSchema<APerson> schema = BeanSchema.forClass(APerson.class);
+        // age and gender are invalid, the required id is missing
+        JsonObject invalidJS = DataSample.missingPersonId();
+        byte[] invalidData = invalidJS.toByteData();
+
+        Assertions.assertEquals(3, schema.fromByteData(invalidData).left().getVarCtx().size());
+        for (int budget = 1; budget <= 3; budget++) {
+            ViolationSink sink = new ViolationSink(budget);
+            try (JsonParser parser = new JsonFactory().createParser(invalidData)) {
+                parser.nextToken();
+                Assertions.assertNull(schema.readJson(parser, sink));
+                Assertions.assertEquals(JsonToken.END_OBJECT, parser.currentToken());
+                Assertions.assertNull(parser.nextToken());
+            }
+            Assertions.assertEquals(budget, sink.take().getVarCtx().size());
+            Assertions.assertEquals(budget, sink.reportedCount());
+
+            sink.reset();
+            Assertions.assertNull(schema.apply(invalidJS, sink));
+            Assertions.assertEquals(budget, sink.take().getVarCtx().size());
+        }
+
+    }
 }
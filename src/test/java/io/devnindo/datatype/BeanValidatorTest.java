@@ -9,6 +9,7 @@ import io.devnindo.datatype.schema.BeanValidator;
 import io.devnindo.datatype.util.Either;
 import io.devnindo.datatype.validation.Validator;
 import io.devnindo.datatype.validation.Violation;
+import io.devnindo.datatype.validation.ViolationSink;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -45,4 +46,22 @@ public class BeanValidatorTest {
         Assertions.assertEquals(true, personEither.isLeft(), "Validation should fail for: "+personJS.encode());
         //System.out.println(personEither.left().toJson().encodePrettily());
     }
+
+    @Test
+    public void fail_fast_validation_stops_at_first_violation() {
+        APerson person = DataSample.person().toBean(APerson.class);
+        BeanValidator<APerson> maleRetiree = BeanValidator.create("MALE_RETIREE", APerson.class, $ -> {
+            $.required($APerson.AGE).and(gtThan(60));
+            $.required($APerson.GENDER).and(equal(Gender.male));
+        });
+
+        JsonObject allCtx = maleRetiree.apply(person).left().getVarCtx();
+        Assertions.assertEquals(2, allCtx.size());
+
+        ViolationSink sink = ViolationSink.failFast();
+        Assertions.assertNull(maleRetiree.apply(person, sink));
+        JsonObject firstCtx = sink.take().getVarCtx();
+        Assertions.assertEquals(1, firstCtx.size());
+        Assertions.assertTrue(firstCtx.containsKey($APerson.AGE.name));
+    }
 }
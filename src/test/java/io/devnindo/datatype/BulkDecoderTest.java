@@ -0,0 +1,62 @@
+package io.devnindo.datatype;
+
+import io.devnindo.datatype.beanexample.APerson;
+import io.devnindo.datatype.beanexample.DataSample;
+import io.devnindo.datatype.json.JsonArray;
+import io.devnindo.datatype.json.JsonObject;
+import io.devnindo.datatype.schema.BulkDecoder;
+import io.devnindo.datatype.util.Either;
+import io.devnindo.datatype.validation.Violation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+public class BulkDecoderTest {
+
+    private static JsonArray personArr(int size) {
+        JsonArray array = new JsonArray();
+        for (int idx = 0; idx < size; idx++)
+            array.add(DataSample.person().put("age", idx));
+        return array;
+    }
+
+    @Test
+    public void bulk_decode_keeps_order() {
+        JsonArray array = personArr(5000);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Either<Violation, List<APerson>> personEither = new BulkDecoder<>(APerson.class, pool, 64).decode(array);
+            Assertions.assertTrue(personEither.isRight());
+            List<APerson> personList = personEither.right();
+            Assertions.assertEquals(array.size(), personList.size());
+            for (int idx = 0; idx < personList.size(); idx++)
+                Assertions.assertEquals(idx, personList.get(idx).getAge());
+
+            Assertions.assertEquals(personList.size(), BulkDecoder.forClass(APerson.class).decode(array).right().size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void bulk_decode_reports_every_invalid_index() {
+        JsonArray array = personArr(3000);
+        array.set(7, DataSample.missingPersonId());
+        array.set(2999, DataSample.invalidPersonAgeType());
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Violation violation = new BulkDecoder<>(APerson.class, pool, 100).decode(array).left();
+            Assertions.assertEquals("BEAN_LIST_TYPE", violation.constraint);
+            JsonObject itemCtx = violation.toJson().getJsonObject("ctx");
+            Assertions.assertEquals(List.of("idx-7", "idx-2999"), List.copyOf(itemCtx.fieldNames()));
+
+            array.set(1500, "not an object");
+            violation = new BulkDecoder<>(APerson.class, pool, 100).decode(array).left();
+            Assertions.assertEquals("PLAIN_DATA_LIST_TYPE", violation.constraint);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package io.devnindo.datatype;
+
+import io.devnindo.datatype.beanexample.AnEmployee;
+import io.devnindo.datatype.beanexample.DataSample;
+import io.devnindo.datatype.json.Json;
+import io.devnindo.datatype.schema.BulkEncoder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+public class BulkEncoderTest {
+
+    @Test
+    public void bulk_encode_matches_sequential_bytes() {
+        List<AnEmployee> employeeList = new ArrayList<>();
+        for (int idx = 0; idx < 3001; idx++)
+            employeeList.add(DataSample.employee().put("age", idx).toBean(AnEmployee.class));
+        employeeList.set(1500, null);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            BulkEncoder<AnEmployee> encoder = new BulkEncoder<>(pool, 100);
+            for (List<AnEmployee> beanList : List.of(employeeList, employeeList.subList(0, 100), employeeList.subList(0, 0))) {
+                byte[] expected = Json.CODEC.encodeToBytes(beanList, false);
+                Assertions.assertArrayEquals(expected, encoder.encode(beanList));
+
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                encoder.encodeTo(beanList, out);
+                Assertions.assertArrayEquals(expected, out.toByteArray());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
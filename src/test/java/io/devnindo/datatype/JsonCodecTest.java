@@ -0,0 +1,340 @@
+package io.devnindo.datatype;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import io.devnindo.datatype.beanexample.APerson;
+import io.devnindo.datatype.beanexample.AnEmployee;
+import io.devnindo.datatype.beanexample.DataSample;
+import io.devnindo.datatype.beanexample.Gender;
+import io.devnindo.datatype.json.DecodeException;
+import io.devnindo.datatype.json.Json;
+import io.devnindo.datatype.json.JsonArray;
+import io.devnindo.datatype.json.JsonCodec;
+import io.devnindo.datatype.json.JsonCodecs;
+import io.devnindo.datatype.json.JsonObject;
+import io.devnindo.datatype.json.jackson.CborCodec;
+import io.devnindo.datatype.json.jackson.JacksonCodec;
+import io.devnindo.datatype.schema.BeanSchema;
+import io.devnindo.datatype.schema.typeresolver.TypeResolver;
+import io.devnindo.datatype.schema.typeresolver.TypeResolverFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static java.time.format.DateTimeFormatter.ISO_INSTANT;
+
+public class JsonCodecTest {
+
+    @Test
+    public void byte_data_same_as_string_encoding() {
+        JsonObject js = DataSample.person()
+                .put("bangla", "আমার সোনার বাংলা")
+                .put("decimal", 123.456)
+                .put("array", new JsonArray("[100, 200, \"aa\"]"));
+
+        byte[] byteData = js.toByteData();
+        Assertions.assertArrayEquals(js.encode().getBytes(StandardCharsets.UTF_8), byteData);
+        Assertions.assertEquals(js, new JsonObject(byteData));
+    }
+
+    @Test
+    public void bean_byte_data_same_as_json_encoding() {
+        APerson person = DataSample.person().toBean(APerson.class);
+        Assertions.assertArrayEquals(person.toJson().toByteData(), person.toByteData());
+    }
+
+    @Test
+    public void decode_slice_of_larger_buffer() {
+        JsonObject js = DataSample.person();
+        JsonArray arr = DataSample.addressArr();
+        byte[] objData = js.toByteData();
+        byte[] arrData = arr.toByteData();
+
+        // frame: 3 junk bytes | object | array | 2 junk bytes
+        byte[] frame = new byte[3 + objData.length + arrData.length + 2];
+        System.arraycopy(objData, 0, frame, 3, objData.length);
+        System.arraycopy(arrData, 0, frame, 3 + objData.length, arrData.length);
+
+        Assertions.assertEquals(js, new JsonObject(frame, 3, objData.length));
+        Assertions.assertEquals(arr, new JsonArray(frame, 3 + objData.length, arrData.length));
+    }
+
+    @Test
+    public void byte_buffer_round_trip_heap_and_direct() {
+        JsonObject js = DataSample.person();
+        byte[] byteData = js.toByteData();
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(4096);
+        direct.put((byte) ' ');
+        js.writeTo(direct);
+        Assertions.assertEquals(1 + byteData.length, direct.position());
+
+        direct.flip().position(1);
+        Assertions.assertEquals(js, new JsonObject(direct));
+        Assertions.assertEquals(1, direct.position(), "decoding should not move the buffer position");
+
+        ByteBuffer heap = js.toByteBuffer();
+        Assertions.assertEquals(js, new JsonObject(heap));
+        Assertions.assertEquals(DataSample.addressArr(), new JsonArray(DataSample.addressArr().toByteBuffer()));
+    }
+
+    @Test
+    public void byte_buffer_overflow_keeps_position() {
+        ByteBuffer small = ByteBuffer.allocateDirect(16);
+        small.put((byte) 1);
+        Assertions.assertThrows(BufferOverflowException.class, () -> DataSample.person().writeTo(small));
+        Assertions.assertEquals(1, small.position());
+    }
+
+    @Test
+    public void stream_and_channel_write() {
+        JsonObject js = DataSample.person();
+        APerson person = js.toBean(APerson.class);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        js.writeTo(out);
+        Assertions.assertArrayEquals(js.toByteData(), out.toByteArray());
+
+        out.reset();
+        person.writeTo(Channels.newChannel(out));
+        Assertions.assertArrayEquals(person.toByteData(), out.toByteArray());
+    }
+
+    @Test
+    public void bean_stream_encoding_same_as_tree_encoding() {
+        AnEmployee employee = DataSample.employee().toBean(AnEmployee.class);
+        AnEmployee sparse = new JsonObject().put("id", 7L).put("age", 30).toBean(AnEmployee.class);
+        Assertions.assertEquals(employee.toJson().encode(), new String(employee.toByteData(), StandardCharsets.UTF_8));
+        Assertions.assertEquals(sparse.toJson().encode(), new String(sparse.toByteData(), StandardCharsets.UTF_8));
+
+        List<AnEmployee> beanList = List.of(employee, sparse);
+        JsonArray treeArr = new JsonArray().add(employee.toJson()).add(sparse.toJson());
+        Assertions.assertArrayEquals(treeArr.toByteData(), Json.CODEC.encodeToBytes(beanList, false));
+    }
+
+    @Test
+    public void instant_writer_same_as_iso_format() throws IOException {
+        TypeResolver<Instant> resolver = TypeResolverFactory.plain(Instant.class);
+        Random random = new Random(42);
+        int[] nanoList = {0, 5_000_000, 123_456_000, 123_456_789, 999_999_999};
+        long[] edgeSecondList = {0L, -1L, 951_782_400L, -62167219200L, 253402300799L, 253402300800L, -62167219201L};
+
+        for (int idx = 0; idx < 2000; idx++) {
+            long epochSecond = idx < edgeSecondList.length
+                    ? edgeSecondList[idx]
+                    : random.nextLong() % 253402300799L;
+            Instant instant = Instant.ofEpochSecond(epochSecond, nanoList[idx % nanoList.length]);
+
+            StringWriter out = new StringWriter();
+            try (JsonGenerator generator = new JsonFactory().createGenerator(out)) {
+                resolver.writeJson(instant, generator);
+            }
+            Assertions.assertEquals("\"" + ISO_INSTANT.format(instant) + "\"", out.toString());
+        }
+    }
+
+    @Test
+    public void lazy_object_decodes_on_access_and_keeps_bytes() {
+        byte[] byteData = DataSample.employee()
+                .put("note", "tab\t \"quoted\" আমার")
+                .put("score", 12.5)
+                .encodePrettily().getBytes(StandardCharsets.UTF_8);
+        JsonObject eager = new JsonObject(byteData);
+        JsonObject lazy = JsonObject.lazy(byteData);
+
+        Assertions.assertEquals(eager.getString("id"), lazy.getString("id"));
+        Assertions.assertEquals(100, lazy.getInteger("salary"));
+        Assertions.assertEquals("tab\t \"quoted\" আমার", lazy.getString("note"));
+        Assertions.assertEquals(54, lazy.getJsonObject("employer").getInteger("age"));
+        Assertions.assertSame(lazy.getJsonObject("employer"), lazy.getJsonObject("employer"));
+        Assertions.assertNull(lazy.getString("absent"));
+        Assertions.assertSame(byteData, lazy.toByteData(), "unmodified lazy object should hand out its bytes");
+
+        Assertions.assertEquals(eager, lazy);
+        Assertions.assertEquals(eager.encode(), lazy.encode());
+        // a handed out array may have been changed, from here on the object is re-encoded
+        Assertions.assertArrayEquals(eager.toByteData(), lazy.toByteData());
+    }
+
+    @Test
+    public void lazy_object_re_encodes_after_modification() {
+        byte[] byteData = DataSample.person().toByteData();
+
+        JsonObject lazy = JsonObject.lazy(byteData);
+        lazy.getJsonObject("employer").put("age", 60);
+        JsonObject expected = new JsonObject(byteData);
+        expected.getJsonObject("employer").put("age", 60);
+        Assertions.assertArrayEquals(expected.toByteData(), lazy.toByteData());
+
+        lazy = JsonObject.lazy(byteData);
+        lazy.put("id", 1L).remove("gender");
+        Assertions.assertEquals(new JsonObject(byteData).put("id", 1L), lazy.put("gender", "female"));
+        Assertions.assertEquals(1L, new JsonObject(lazy.toByteData()).getLong("id"));
+    }
+
+    @Test
+    public void lazy_object_slice_duplicates_and_fallback() {
+        byte[] frame = "xx{\"a\":1,\"b\":[1,{\"c\":\"]\"}],\"a\":2,\"k\\\"ey\":null}yy".getBytes(StandardCharsets.UTF_8);
+        JsonObject lazy = JsonObject.lazy(frame, 2, frame.length - 4);
+        JsonObject eager = new JsonObject(frame, 2, frame.length - 4);
+        Assertions.assertEquals(eager.fieldNames(), lazy.fieldNames());
+        Assertions.assertEquals(eager, lazy);
+        Assertions.assertEquals(2, lazy.getInteger("a"));
+
+        String commented = "{ /* comment */ id: 5, \"name\": \"x\" }";
+        Assertions.assertEquals(new JsonObject(commented), JsonObject.lazy(commented.getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertThrows(DecodeException.class, () -> JsonObject.lazy("[1]".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void parsed_tree_hands_out_same_wrappers() {
+        JsonObject js = new JsonObject(DataSample.person().toByteData());
+        Assertions.assertSame(js.getJsonObject("employer"), js.getJsonObject("employer"));
+        Assertions.assertSame(js.getJsonObject("employer"), js.getValue("employer"));
+        Assertions.assertSame(js.getJsonArray("address_list"), js.getJsonArray("address_list"));
+
+        JsonArray addressArr = js.getJsonArray("address_list");
+        Assertions.assertSame(addressArr.getJsonObject(0), addressArr.getValue(0));
+        Assertions.assertSame(addressArr.getValue(0), addressArr.iterator().next());
+        Assertions.assertTrue(js.getMap().get("employer") instanceof JsonObject);
+    }
+
+    @Test
+    public void codec_chosen_by_system_property() {
+        Assertions.assertTrue(Json.CODEC instanceof JacksonCodec);
+        Assertions.assertTrue(JsonCodecs.load() instanceof JacksonCodec);
+
+        try {
+            System.setProperty(JsonCodecs.CODEC_PROPERTY, DelegatingCodec.class.getName());
+            JsonCodec codec = JsonCodecs.load();
+            Assertions.assertTrue(codec instanceof DelegatingCodec);
+
+            // interface defaults: buffer encode and tree based bean decode
+            JsonObject personJS = DataSample.person();
+            ByteBuffer buf = ByteBuffer.allocateDirect(4096);
+            codec.encodeTo(personJS, buf, false);
+            Assertions.assertEquals(personJS.toByteData().length, buf.position());
+            buf.flip();
+            Assertions.assertEquals(personJS, new JsonObject(codec.fromByteBuffer(buf, Map.class)));
+
+            byte[] byteData = personJS.toByteData();
+            APerson person = codec.decodeBean(BeanSchema.of(APerson.class), byteData, 0, byteData.length).right();
+            Assertions.assertEquals(personJS.toBean(APerson.class).toJson().encode(), person.toJson().encode());
+
+            System.setProperty(JsonCodecs.CODEC_PROPERTY, "io.devnindo.NoSuchCodec");
+            Assertions.assertThrows(IllegalStateException.class, JsonCodecs::load);
+
+            // not a JsonCodec
+            System.setProperty(JsonCodecs.CODEC_PROPERTY, String.class.getName());
+            Assertions.assertThrows(IllegalStateException.class, JsonCodecs::load);
+            // binary only, no text form for Json.CODEC
+            System.setProperty(JsonCodecs.CODEC_PROPERTY, CborCodec.class.getName());
+            Assertions.assertThrows(IllegalStateException.class, JsonCodecs::load);
+        } finally {
+            System.clearProperty(JsonCodecs.CODEC_PROPERTY);
+        }
+    }
+
+    @Test
+    public void binary_round_trip_keeps_instant_bytes_and_enum() {
+        Instant instant = Instant.ofEpochSecond(1_600_000_000L, 123_456_789);
+        byte[] raw = new byte[256];
+        new Random(7).nextBytes(raw);
+        JsonObject js = DataSample.person()
+                .put("created", instant)
+                .put("raw", raw)
+                .put("gender", Gender.female)
+                .put("array", new JsonArray().add(instant).add(raw).add(1.5));
+
+        byte[] binary = js.toBinary();
+        JsonObject decoded = (JsonObject) Json.fromBinary(binary);
+        Assertions.assertEquals(instant, decoded.getMap().get("created"));
+        Assertions.assertArrayEquals(raw, (byte[]) decoded.getMap().get("raw"));
+        Assertions.assertEquals(Gender.female, Gender.valueOf(decoded.getString("gender")));
+        Assertions.assertEquals(instant, decoded.getJsonArray("array").getList().get(0));
+        Assertions.assertArrayEquals(raw, decoded.getJsonArray("array").getBinary(1));
+        // same document as JSON text, smaller since the bytes are not base64
+        Assertions.assertEquals(js.encode(), decoded.encode());
+        Assertions.assertTrue(binary.length < js.toByteData().length);
+
+        Assertions.assertThrows(DecodeException.class, () -> Json.fromBinary(JsonCodecs.binary().encodeToBytes("str", false)));
+    }
+
+    @Test
+    public void bean_binary_round_trip() throws IOException {
+        AnEmployee employee = DataSample.employee().toBean(AnEmployee.class);
+        BeanSchema<AnEmployee> schema = BeanSchema.of(AnEmployee.class);
+        byte[] binary = employee.toBinary();
+        Assertions.assertArrayEquals(binary, schema.toBinary(employee));
+        Assertions.assertEquals(employee.toJson().encode(), schema.fromBinary(binary).right().toJson().encode());
+        Assertions.assertEquals(employee.toJson().encode(), Json.fromBinary(binary).encode());
+
+        // byte[] fields are raw in binary, base64url in JSON text
+        TypeResolver<byte[]> resolver = TypeResolverFactory.plain(byte[].class);
+        byte[] raw = {0, 1, -2, 127, -128};
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = new CBORFactory().createGenerator(out)) {
+            resolver.writeJson(raw, generator);
+        }
+        try (JsonParser parser = new CBORFactory().createParser(out.toByteArray())) {
+            parser.nextToken();
+            Assertions.assertArrayEquals(raw, resolver.readJson(parser).right());
+        }
+        StringWriter text = new StringWriter();
+        try (JsonGenerator generator = new JsonFactory().createGenerator(text)) {
+            resolver.writeJson(raw, generator);
+        }
+        Assertions.assertEquals(new JsonArray().add(raw).encode(), "[" + text + "]");
+        Assertions.assertArrayEquals(raw, resolver.evalJsonVal(new JsonArray("[" + text + "]").getString(0)).right());
+        Assertions.assertTrue(resolver.evalJsonVal("not base64 !").isLeft());
+    }
+
+    public static class DelegatingCodec implements JsonCodec {
+        private final JsonCodec jackson = new JacksonCodec();
+
+        @Override
+        public <T> T fromString(String json, Class<T> clazz) {
+            return jackson.fromString(json, clazz);
+        }
+
+        @Override
+        public <T> T fromByteData(byte[] byteData, int offset, int len, Class<T> clazz) {
+            return jackson.fromByteData(byteData, offset, len, clazz);
+        }
+
+        @Override
+        public <T> T fromStream(InputStream in, Class<T> clazz) {
+            return jackson.fromStream(in, clazz);
+        }
+
+        @Override
+        public String encodeToString(Object object, boolean pretty) {
+            return jackson.encodeToString(object, pretty);
+        }
+
+        @Override
+        public byte[] encodeToBytes(Object object, boolean pretty) {
+            return jackson.encodeToBytes(object, pretty);
+        }
+
+        @Override
+        public void encodeTo(Object object, OutputStream out, boolean pretty) {
+            jackson.encodeTo(object, out, pretty);
+        }
+    }
+}
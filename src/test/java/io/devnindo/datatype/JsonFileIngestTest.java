@@ -0,0 +1,81 @@
+package io.devnindo.datatype;
+
+import io.devnindo.datatype.beanexample.AnEmployee;
+import io.devnindo.datatype.json.DecodeException;
+import io.devnindo.datatype.json.JsonArray;
+import io.devnindo.datatype.json.JsonFileIngest;
+import io.devnindo.datatype.schema.BeanGenerator;
+import io.devnindo.datatype.schema.BeanSchema;
+import io.devnindo.datatype.util.Either;
+import io.devnindo.datatype.validation.Violation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+public class JsonFileIngestTest {
+    // small segments, so documents and tokens straddle segment ends
+    private static final int SEGMENT_SIZE = 1000;
+
+    @Test
+    public void ingests_array_file_in_segments(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("employees.json");
+        BeanGenerator generator = BeanGenerator.create(5);
+        JsonArray employeeArr = new JsonArray();
+        for (int idx = 0; idx < 2000; idx++)
+            employeeArr.add(generator.nextJson(AnEmployee.class));
+        Files.write(file, ("\n " + employeeArr.encodePrettily() + "\n").getBytes(StandardCharsets.UTF_8));
+
+        try (JsonFileIngest ingest = JsonFileIngest.open(file, SEGMENT_SIZE)) {
+            Assertions.assertTrue(ingest.isArray());
+            for (int idx = 0; idx < employeeArr.size(); idx++)
+                Assertions.assertEquals(employeeArr.getJsonObject(idx).encode(), ingest.next().encode());
+            Assertions.assertNull(ingest.next());
+            Assertions.assertEquals(2000, ingest.count());
+        }
+
+        BeanSchema<AnEmployee> schema = BeanSchema.forClass(AnEmployee.class);
+        try (Stream<Either<Violation, AnEmployee>> beanStream = JsonFileIngest.open(file, SEGMENT_SIZE).stream(schema)) {
+            Assertions.assertEquals(2000, beanStream.filter(Either::isRight).count());
+        }
+    }
+
+    @Test
+    public void ingests_ndjson_file_in_segments(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("employees.ndjson");
+        BeanGenerator.create(5).writeNdjson(AnEmployee.class, 2000, file);
+
+        BeanGenerator sameGenerator = BeanGenerator.create(5);
+        try (JsonFileIngest ingest = JsonFileIngest.open(file, SEGMENT_SIZE)) {
+            Assertions.assertFalse(ingest.isArray());
+            for (int idx = 0; idx < 2000; idx++)
+                Assertions.assertEquals(sameGenerator.nextJson(AnEmployee.class).encode(), ingest.next().encode());
+            Assertions.assertNull(ingest.next());
+        }
+    }
+
+    @Test
+    public void rejects_non_object_items(@TempDir Path dir) throws IOException {
+        Path empty = Files.writeString(dir.resolve("empty.json"), " [ ] ");
+        try (JsonFileIngest ingest = JsonFileIngest.open(empty)) {
+            Assertions.assertNull(ingest.next());
+        }
+
+        Path mixed = Files.writeString(dir.resolve("mixed.json"), "[{\"a\": 1}, 2]");
+        try (JsonFileIngest ingest = JsonFileIngest.open(mixed)) {
+            Assertions.assertNotNull(ingest.next());
+            Assertions.assertThrows(DecodeException.class, ingest::next);
+        }
+
+        Path truncated = Files.writeString(dir.resolve("truncated.json"), "[{\"a\": 1},");
+        try (JsonFileIngest ingest = JsonFileIngest.open(truncated)) {
+            Assertions.assertNotNull(ingest.next());
+            Assertions.assertThrows(DecodeException.class, ingest::next);
+        }
+    }
+}
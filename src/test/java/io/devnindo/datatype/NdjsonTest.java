@@ -0,0 +1,91 @@
+package io.devnindo.datatype;
+
+import io.devnindo.datatype.beanexample.APerson;
+import io.devnindo.datatype.beanexample.AnEmployee;
+import io.devnindo.datatype.beanexample.DataSample;
+import io.devnindo.datatype.json.DecodeException;
+import io.devnindo.datatype.json.JsonObject;
+import io.devnindo.datatype.json.NdjsonReader;
+import io.devnindo.datatype.json.NdjsonWriter;
+import io.devnindo.datatype.schema.BeanGenerator;
+import io.devnindo.datatype.schema.BeanSchema;
+import io.devnindo.datatype.util.Either;
+import io.devnindo.datatype.validation.Violation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class NdjsonTest {
+
+    private static NdjsonReader reader(String lines) {
+        return NdjsonReader.of(new ByteArrayInputStream(lines.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void round_trip_through_file(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("employees.ndjson");
+        BeanGenerator generator = BeanGenerator.create(11);
+        AnEmployee employee = DataSample.employee().toBean(AnEmployee.class);
+        try (NdjsonWriter writer = NdjsonWriter.open(file)) {
+            writer.write(employee).write(DataSample.employee());
+            generator.writeNdjson(AnEmployee.class, 1000, writer);
+        }
+        try (NdjsonWriter writer = NdjsonWriter.append(file)) {
+            writer.write(employee);
+        }
+        Assertions.assertEquals(1003, Files.readAllLines(file).size());
+
+        BeanGenerator sameGenerator = BeanGenerator.create(11);
+        try (NdjsonReader reader = NdjsonReader.open(file)) {
+            Assertions.assertEquals(new String(employee.toByteData(), StandardCharsets.UTF_8), reader.next().encode());
+            Assertions.assertEquals(DataSample.employee().encode(), reader.next().encode());
+            for (int idx = 0; idx < 1000; idx++)
+                Assertions.assertEquals(sameGenerator.nextJson(AnEmployee.class).encode(), reader.next().encode());
+            Assertions.assertNotNull(reader.next());
+            Assertions.assertNull(reader.next());
+            Assertions.assertEquals(1003, reader.count());
+        }
+
+        BeanSchema<AnEmployee> schema = BeanSchema.forClass(AnEmployee.class);
+        try (Stream<Either<Violation, AnEmployee>> beanStream = NdjsonReader.open(file).stream(schema)) {
+            Assertions.assertEquals(1003, beanStream.filter(Either::isRight).count());
+        }
+    }
+
+    @Test
+    public void invalid_bean_line_does_not_stop_reading() {
+        String lines = DataSample.person().encode() + "\n\n"
+                + DataSample.missingPersonId().encode() + "\r\n"
+                + DataSample.person().encode() + "\n";
+        BeanSchema<APerson> schema = BeanSchema.forClass(APerson.class);
+        try (Stream<Either<Violation, APerson>> beanStream = reader(lines).stream(schema)) {
+            List<Boolean> validList = beanStream.map(Either::isRight).collect(Collectors.toList());
+            Assertions.assertEquals(List.of(true, false, true), validList);
+        }
+    }
+
+    @Test
+    public void malformed_lines_fail_with_line_number() {
+        NdjsonReader malformed = reader("{\"a\":1}\n{\"a\":}\n{\"a\":3}\n");
+        Assertions.assertNotNull(malformed.next());
+        DecodeException error = Assertions.assertThrows(DecodeException.class, malformed::next);
+        Assertions.assertTrue(error.getMessage().contains("line 2"), error.getMessage());
+
+        NdjsonReader notObject = reader("{\"a\":1}\n[1, 2]\n");
+        notObject.next();
+        Assertions.assertThrows(DecodeException.class, notObject::next);
+
+        NdjsonReader sameLine = reader("{\"a\":1} {\"a\":2}\n");
+        sameLine.next();
+        Assertions.assertThrows(DecodeException.class, sameLine::next);
+    }
+}
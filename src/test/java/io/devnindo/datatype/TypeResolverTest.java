@@ -1,17 +1,39 @@
 package io.devnindo.datatype;
 
 import io.devnindo.datatype.beanexample.Address;
+import io.devnindo.datatype.beanexample.AnEmployee;
 import io.devnindo.datatype.beanexample.DataSample;
+import io.devnindo.datatype.json.DecodeException;
 import io.devnindo.datatype.json.JsonArray;
 import io.devnindo.datatype.json.JsonObject;
+import io.devnindo.datatype.schema.BeanSchema;
+import io.devnindo.datatype.schema.DataBean;
 import io.devnindo.datatype.schema.typeresolver.TypeResolverFactory;
 import io.devnindo.datatype.schema.typeresolver.TypeResolver;
+import io.devnindo.datatype.schema.typeresolver.lists.DataListResolver;
+import io.devnindo.datatype.util.DoubleList;
 import io.devnindo.datatype.util.Either;
+import io.devnindo.datatype.util.IntList;
+import io.devnindo.datatype.util.LongList;
+import io.devnindo.datatype.util.PackedReader;
 import io.devnindo.datatype.validation.Violation;
+import io.devnindo.datatype.validation.violations.TypeViolations;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 public class TypeResolverTest {
 
@@ -74,4 +96,159 @@ public class TypeResolverTest {
 
 
     }
+
+    @Test
+    public void primitive_list_resolvers() {
+        TypeResolver<List<Long>> longResolver = TypeResolverFactory.plainDataList(Long.class);
+        List<Long> idList = longResolver.evalJsonVal(new JsonArray("[7, 3000000000, \"42L\"]")).right();
+        Assertions.assertTrue(idList instanceof LongList);
+        Assertions.assertEquals(List.of(7L, 3_000_000_000L, 42L), idList);
+
+        List<Double> scoreList = TypeResolverFactory.plainDataList(Double.class).evalJsonVal(new JsonArray("[1, 2.5]")).right();
+        Assertions.assertEquals(DoubleList.of(1.0, 2.5), scoreList);
+        Assertions.assertEquals(List.of(1.0, 2.5), scoreList);
+
+        TypeResolver<List<Integer>> intResolver = TypeResolverFactory.plainDataList(Integer.class);
+        Assertions.assertTrue(intResolver.evalJsonVal(new JsonArray("[1, null, 3]")).isLeft());
+        Assertions.assertTrue(intResolver.evalJsonVal(new JsonArray("[1, 3000000000]")).isLeft());
+
+        BeanSchema<AnEmployee> schema = BeanSchema.forClass(AnEmployee.class);
+        AnEmployee employee = schema.fromByteData(DataSample.employee().toByteData()).right();
+        Assertions.assertTrue(employee.getProjectIdList() instanceof LongList);
+        Assertions.assertTrue(employee.getScoreList() instanceof DoubleList);
+        String employeeJs = new String(employee.toByteData(), StandardCharsets.UTF_8);
+        Assertions.assertTrue(employeeJs.contains("\"project_id_list\":[7,3000000000,42]"));
+        Assertions.assertTrue(employeeJs.contains("\"score_list\":[4.5,3.0,-0.25]"));
+    }
+
+    @Test
+    public void int_list_decoding_breaks_with_data_list_resolver() {
+        JsonArray withNull = new JsonArray("[1, null, 3]");
+        List<Integer> oldList = new DataListResolver<>(Integer.class).evalJsonVal(withNull).right();
+        Assertions.assertTrue(oldList instanceof ArrayList);
+        Assertions.assertEquals(Arrays.asList(1, null, 3), oldList);
+
+        TypeResolver<List<Integer>> intResolver = TypeResolverFactory.plainDataList(Integer.class);
+        Either<Violation, List<Integer>> newEither = intResolver.evalJsonVal(withNull);
+        Assertions.assertTrue(newEither.isLeft());
+        Assertions.assertEquals("PLAIN_DATA_LIST_TYPE", newEither.left().constraint);
+
+        List<Integer> newList = intResolver.evalJsonVal(new JsonArray("[1, 3]")).right();
+        Assertions.assertTrue(newList instanceof IntList);
+        Assertions.assertEquals(List.of(1, 3), newList);
+    }
+
+    @Test
+    public void primitive_list_resolvers_reject_hostile_counts() {
+        byte[][] hostileCounts = {
+                {(byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x0f},
+                {(byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x07},
+                {(byte) 0x80, (byte) 0x80, 0x01, 0x00}
+        };
+        List<TypeResolver<?>> listResolvers = List.of(TypeResolverFactory.plainDataList(Integer.class),
+                TypeResolverFactory.plainDataList(Long.class), TypeResolverFactory.plainDataList(Double.class));
+        for (byte[] data : hostileCounts) {
+            for (TypeResolver<?> resolver : listResolvers)
+                Assertions.assertThrows(DecodeException.class, () -> resolver.readPacked(new PackedReader(data)));
+        }
+    }
+
+    @Test
+    public void concurrent_schema_init_across_class_loaders() throws Exception {
+        int loaderCount = 200, tasksPerLoader = 4;
+        List<ClassLoader> loaderList = new ArrayList<>();
+        for (int idx = 0; idx < loaderCount; idx++)
+            loaderList.add(new BeanExampleLoader(getClass().getClassLoader()));
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<Object[]>> futureList = new ArrayList<>();
+        JsonObject personJs = DataSample.person();
+        for (int idx = 0; idx < loaderCount * tasksPerLoader; idx++) {
+            ClassLoader loader = loaderList.get(idx % loaderCount);
+            futureList.add(executor.submit(() -> {
+                startLatch.await();
+                Class beanClz = loader.loadClass("io.devnindo.datatype.beanexample.APerson");
+                BeanSchema schema = BeanSchema.forClass(beanClz);
+                DataBean bean = (DataBean) schema.apply(personJs).right();
+                Assertions.assertSame(beanClz, bean.getClass());
+                Assertions.assertEquals(personJs.getInteger("age"), bean.toJson().getInteger("age"));
+                return new Object[]{schema, TypeResolverFactory.beanType(beanClz), TypeResolverFactory.beanList(beanClz)};
+            }));
+        }
+        startLatch.countDown();
+
+        try {
+            for (int idx = 0; idx < futureList.size(); idx++) {
+                Object[] resolved = futureList.get(idx).get(30, TimeUnit.SECONDS);
+                Object[] first = futureList.get(idx % loaderCount).get();
+                for (int pos = 0; pos < resolved.length; pos++)
+                    Assertions.assertSame(first[pos], resolved[pos]);
+                if (idx > 0 && idx < loaderCount)
+                    Assertions.assertNotSame(futureList.get(0).get()[0], resolved[0]);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void registered_plain_resolver_is_used() {
+        TypeResolver<URI> uriResolver = new TypeResolver<URI>() {
+            @Override
+            public Either<Violation, URI> evalJsonVal(Object val) {
+                return val instanceof String
+                        ? Either.right(URI.create((String) val))
+                        : Either.left(TypeViolations.STRING_TYPE);
+            }
+
+            @Override
+            public Object toJsonVal(URI uri) {
+                return uri.toString();
+            }
+
+            @Override
+            public URI diff(URI from, URI to, Consumer changeConsumer) {
+                if (!to.equals(from))
+                    changeConsumer.accept(to.toString());
+                return to;
+            }
+        };
+
+        Assertions.assertNull(TypeResolverFactory.plain(URI.class));
+        TypeResolverFactory.register(URI.class, uriResolver);
+        Assertions.assertSame(uriResolver, TypeResolverFactory.plain(URI.class));
+        Assertions.assertEquals(URI.create("https://devnindo.io"), TypeResolverFactory.plain(URI.class).evalJsonVal("https://devnindo.io").right());
+        Assertions.assertThrows(IllegalStateException.class, () -> TypeResolverFactory.register(URI.class, uriResolver));
+        Assertions.assertThrows(IllegalStateException.class, () -> TypeResolverFactory.register(Long.class, TypeResolverFactory.plain(Long.class)));
+    }
+
+    // loads the example beans and schemas again, child first, as a separate deployment would
+    private static final class BeanExampleLoader extends ClassLoader {
+        BeanExampleLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (name.startsWith("io.devnindo.datatype.beanexample.") == false)
+                return super.loadClass(name, resolve);
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> clz = findLoadedClass(name);
+                if (clz == null) {
+                    try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                        if (in == null)
+                            throw new ClassNotFoundException(name);
+                        byte[] clzData = in.readAllBytes();
+                        clz = defineClass(name, clzData, 0, clzData.length);
+                    } catch (IOException ex) {
+                        throw new ClassNotFoundException(name, ex);
+                    }
+                }
+                if (resolve)
+                    resolveClass(clz);
+                return clz;
+            }
+        }
+    }
 }
@@ -0,0 +1,52 @@
+package io.devnindo.datatype.beanexample;
+
+import io.devnindo.datatype.json.JsonObject;
+import io.devnindo.datatype.schema.BeanSchema;
+import io.devnindo.datatype.schema.DataDiff;
+import io.devnindo.datatype.schema.SchemaField;
+import io.devnindo.datatype.util.Either;
+import io.devnindo.datatype.validation.ObjViolation;
+import io.devnindo.datatype.validation.Violation;
+
+public class $ANote extends BeanSchema<ANote> {
+    public static final SchemaField<ANote, String> TITLE = plainField("title", ANote::getTitle, String.class, false);
+
+    public static final SchemaField<ANote, String> BODY = plainField("body", ANote::getBody, String.class, true);
+
+    @Override
+    public Either<Violation, ANote> apply(JsonObject data) {
+        Either<Violation, String> titleEither = TITLE.fromJson(data);
+        Either<Violation, String> bodyEither = BODY.fromJson(data);
+
+        ObjViolation violation = newViolation(ANote.class);
+        violation.check(TITLE, titleEither);
+        violation.check(BODY, bodyEither);
+
+        if (violation.hasRequirement()) {
+            return Either.left(violation);
+        }
+        ANote bean = new ANote();
+        bean.title = titleEither.right();
+        bean.body = bodyEither.right();
+        return Either.right(bean);
+    }
+
+    @Override
+    public JsonObject apply(ANote bean) {
+        JsonObject js = new JsonObject();
+        js.put(TITLE.name, TITLE.toJson(bean));
+        js.put(BODY.name, BODY.toJson(bean));
+        return js;
+    }
+
+    @Override
+    public DataDiff<ANote> diff(ANote left, ANote right) {
+        ANote merged = new ANote();
+        JsonObject delta = new JsonObject();
+
+        merged.title = TITLE.diff(left, right, delta::put);
+        merged.body = BODY.diff(left, right, delta::put);
+
+        return new DataDiff<>(delta, merged);
+    }
+}
@@ -27,6 +27,10 @@ public class $AnEmployee extends BeanSchema<AnEmployee> {
 
     public static final SchemaField<AnEmployee, Integer> SALARY = plainField("salary", AnEmployee::getSalary, Integer.class, false);
 
+    public static final SchemaField<AnEmployee, List<Long>> PROJECT_ID_LIST = plainListField("project_id_list", AnEmployee::getProjectIdList, Long.class, false);
+
+    public static final SchemaField<AnEmployee, List<Double>> SCORE_LIST = plainListField("score_list", AnEmployee::getScoreList, Double.class, false);
+
     @Override
     public Either<Violation, AnEmployee> apply(JsonObject data) {
         Either<Violation, Gender> genderEither = GENDER.fromJson(data);
@@ -36,6 +40,8 @@ public class $AnEmployee extends BeanSchema<AnEmployee> {
         Either<Violation, Long> idEither = ID.fromJson(data);
         Either<Violation, Integer> ageEither = AGE.fromJson(data);
         Either<Violation, Integer> salaryEither = SALARY.fromJson(data);
+        Either<Violation, List<Long>> projectIdListEither = PROJECT_ID_LIST.fromJson(data);
+        Either<Violation, List<Double>> scoreListEither = SCORE_LIST.fromJson(data);
 
         ObjViolation violation = newViolation(AnEmployee.class);
         violation.check(GENDER, genderEither);
@@ -45,6 +51,8 @@ public class $AnEmployee extends BeanSchema<AnEmployee> {
         violation.check(ID, idEither);
         violation.check(AGE, ageEither);
         violation.check(SALARY, salaryEither);
+        violation.check(PROJECT_ID_LIST, projectIdListEither);
+        violation.check(SCORE_LIST, scoreListEither);
 
         if (violation.hasRequirement()) {
             return Either.left(violation);
@@ -57,6 +65,8 @@ public class $AnEmployee extends BeanSchema<AnEmployee> {
         bean.id = idEither.right();
         bean.setAge(ageEither.right());
         bean.setSalary(salaryEither.right());
+        bean.projectIdList = projectIdListEither.right();
+        bean.scoreList = scoreListEither.right();
         return Either.right(bean);
     }
 
@@ -71,6 +81,8 @@ public class $AnEmployee extends BeanSchema<AnEmployee> {
         js.put(ID.name, ID.toJson(bean));
         js.put(AGE.name, AGE.toJson(bean));
         js.put(SALARY.name, SALARY.toJson(bean));
+        js.put(PROJECT_ID_LIST.name, PROJECT_ID_LIST.toJson(bean));
+        js.put(SCORE_LIST.name, SCORE_LIST.toJson(bean));
         return js;
     }
 
@@ -86,6 +98,8 @@ public class $AnEmployee extends BeanSchema<AnEmployee> {
         merged.id = ID.diff(left, right, delta::put);
         merged.age = AGE.diff(left, right, delta::put);
         merged.salary = SALARY.diff(left, right, delta::put);
+        merged.projectIdList = PROJECT_ID_LIST.diff(left, right, delta::put);
+        merged.scoreList = SCORE_LIST.diff(left, right, delta::put);
 
         return new DataDiff<>(delta, merged);
     }
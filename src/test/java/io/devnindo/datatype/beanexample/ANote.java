@@ -0,0 +1,17 @@
+package io.devnindo.datatype.beanexample;
+
+import io.devnindo.datatype.schema.DataBean;
+
+public class ANote implements DataBean {
+    String title;
+
+    String body;
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getBody() {
+        return body;
+    }
+}
@@ -3,12 +3,18 @@ package io.devnindo.datatype.beanexample;
 
 import io.devnindo.datatype.schema.AField;
 
+import java.util.List;
+
 public class AnEmployee extends APerson {
     Integer salary;
 
 
     APerson manager;
 
+    List<Long> projectIdList;
+
+    List<Double> scoreList;
+
     public Integer getSalary() {
         return salary;
     }
@@ -22,6 +28,14 @@ public class AnEmployee extends APerson {
         return manager;
     }
 
+    public List<Long> getProjectIdList() {
+        return projectIdList;
+    }
+
+    public List<Double> getScoreList() {
+        return scoreList;
+    }
+
     @AField
     public Boolean shouldRetire() {
         return age > 50;
@@ -91,6 +91,8 @@ public final class DataSample {
 
     public static JsonObject employee() {
         JsonObject anEmp = person();
-        return anEmp.put("salary", 100);
+        return anEmp.put("salary", 100)
+                .put("project_id_list", new JsonArray().add(7L).add(3_000_000_000L).add("42L"))
+                .put("score_list", new JsonArray().add(4.5).add(3).add(-0.25));
     }
 }